@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of calling from the host into Python: plain function calls with different argument
+ * types, method invocations and evaluation of an already parsed source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallBenchmark {
+
+    private static final Source CACHED_SOURCE = Source.create("python", "42");
+
+    private Context context;
+    private Value noArgs;
+    private Value add;
+    private Value concat;
+    private Value object;
+
+    @Setup
+    public void setup() {
+        context = Context.newBuilder("python").build();
+        context.eval("python", "def no_args():\n" +
+                        "    return 42\n" +
+                        "def add(a, b):\n" +
+                        "    return a + b\n" +
+                        "def concat(a, b):\n" +
+                        "    return a + b\n" +
+                        "class Counter:\n" +
+                        "    def __init__(self):\n" +
+                        "        self.count = 0\n" +
+                        "    def inc(self, n):\n" +
+                        "        self.count += n\n" +
+                        "        return self.count\n" +
+                        "counter = Counter()\n");
+        Value bindings = context.getBindings("python");
+        noArgs = bindings.getMember("no_args");
+        add = bindings.getMember("add");
+        concat = bindings.getMember("concat");
+        object = bindings.getMember("counter");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int callNoArgs() {
+        return noArgs.execute().asInt();
+    }
+
+    @Benchmark
+    public int callInts() {
+        return add.execute(1, 2).asInt();
+    }
+
+    @Benchmark
+    public double callDoubles() {
+        return add.execute(1.5, 2.5).asDouble();
+    }
+
+    @Benchmark
+    public String callStrings() {
+        return concat.execute("foo", "bar").asString();
+    }
+
+    @Benchmark
+    public long invokeMember() {
+        return object.invokeMember("inc", 1).asLong();
+    }
+
+    @Benchmark
+    public long readMember() {
+        return object.getMember("count").asLong();
+    }
+
+    @Benchmark
+    public int evalCachedSource() {
+        return context.eval(CACHED_SOURCE).asInt();
+    }
+}
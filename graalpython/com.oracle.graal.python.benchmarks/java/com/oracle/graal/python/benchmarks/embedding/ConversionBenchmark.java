@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.TypeLiteral;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passing collections between the host and Python in both directions. Each operation converts or
+ * traverses a whole collection of {@link #size} elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final TypeLiteral<List<Double>> DOUBLE_LIST = new TypeLiteral<>() {
+    };
+    private static final TypeLiteral<Map<String, Object>> STRING_MAP = new TypeLiteral<>() {
+    };
+
+    @Param({"1000", "100000"}) public int size;
+
+    private Context context;
+    private Value sum;
+    private Value pyList;
+    private Value pyArray;
+    private Value pyDict;
+    private double[] hostArray;
+    private List<Object> hostList;
+
+    @Setup
+    public void setup() {
+        context = Context.newBuilder("python").allowAllAccess(true).build();
+        context.eval("python", "import array\n" +
+                        "def make_list(n):\n" +
+                        "    return [float(i) for i in range(n)]\n" +
+                        "def make_array(n):\n" +
+                        "    return array.array('d', make_list(n))\n" +
+                        "def make_dict(n):\n" +
+                        "    return {str(i): i for i in range(n)}\n" +
+                        "def sum_seq(seq):\n" +
+                        "    return sum(seq)\n");
+        Value bindings = context.getBindings("python");
+        sum = bindings.getMember("sum_seq");
+        pyList = bindings.getMember("make_list").execute(size);
+        pyArray = bindings.getMember("make_array").execute(size);
+        pyDict = bindings.getMember("make_dict").execute(size);
+        hostArray = new double[size];
+        hostList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hostArray[i] = i;
+            hostList.add((double) i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public double listElementwiseToHost() {
+        double result = 0;
+        long n = pyList.getArraySize();
+        for (long i = 0; i < n; i++) {
+            result += pyList.getArrayElement(i).asDouble();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double listAsHostList() {
+        double result = 0;
+        for (double d : pyList.as(DOUBLE_LIST)) {
+            result += d;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double arrayBufferToHost() {
+        double result = 0;
+        long n = pyArray.getBufferSize();
+        for (long offset = 0; offset < n; offset += Double.BYTES) {
+            result += pyArray.readBufferDouble(ByteOrder.nativeOrder(), offset);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] arrayBulkBufferToHost() {
+        byte[] bytes = new byte[(int) pyArray.getBufferSize()];
+        pyArray.readBuffer(0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    @Benchmark
+    public long dictAsHostMap() {
+        long result = 0;
+        for (Map.Entry<String, Object> entry : pyDict.as(STRING_MAP).entrySet()) {
+            result += ((Number) entry.getValue()).longValue();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double hostArrayToPython() {
+        return sum.execute(hostArray).asDouble();
+    }
+
+    @Benchmark
+    public double hostListToPython() {
+        return sum.execute(ProxyArray.fromList(hostList)).asDouble();
+    }
+}
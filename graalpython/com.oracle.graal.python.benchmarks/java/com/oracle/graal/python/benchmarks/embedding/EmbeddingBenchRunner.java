@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH embedding benchmarks of this package. Unlike
+ * {@link com.oracle.graal.python.benchmarks.interop.BenchRunner}, which runs single-shot algorithm
+ * ports, these benchmarks measure the cost of the embedding API itself with proper warmup and
+ * report in the standard JMH format.
+ *
+ * <pre>
+ * EmbeddingBenchRunner [regexp] [-i iterations] [-w warmup iterations] [-f forks] [-t threads]
+ *                      [-p param=value]... [-gc]
+ * </pre>
+ *
+ * {@code -gc} enables the JMH GC profiler, which reports allocation rates per operation.
+ *
+ * The same benchmarks are registered as the {@code python-embedding-jmh} suite, so they can also be
+ * run with {@code mx benchmark python-embedding-jmh -- -- [regexp]}. The {@code GRAALPYTHON_BENCH}
+ * distribution bundles JMH, so this class can be run directly from its jar as well.
+ */
+public class EmbeddingBenchRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        String include = EmbeddingBenchRunner.class.getPackage().getName() + ".*";
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-i":
+                    options = options.measurementIterations(Integer.parseInt(args[++i]));
+                    break;
+                case "-w":
+                    options = options.warmupIterations(Integer.parseInt(args[++i]));
+                    break;
+                case "-f":
+                    options = options.forks(Integer.parseInt(args[++i]));
+                    break;
+                case "-t":
+                    options = options.threads(Integer.parseInt(args[++i]));
+                    break;
+                case "-p":
+                    String[] param = args[++i].split("=", 2);
+                    options = options.param(param[0], param[1].split(","));
+                    break;
+                case "-gc":
+                    options = options.addProfiler(GCProfiler.class);
+                    break;
+                default:
+                    include = arg;
+            }
+        }
+        new Runner(options.include(include).build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.embedding;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exceptions crossing the boundary between the host and Python, compared to an exception that is
+ * raised and caught within Python.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionBenchmark {
+
+    private Context context;
+    private Value raiseError;
+    private Value raiseAndCatch;
+    private Value callHost;
+    private ProxyExecutable throwingHostFunction;
+
+    @Setup
+    public void setup() {
+        context = Context.newBuilder("python").build();
+        context.eval("python", "def raise_error():\n" +
+                        "    raise ValueError('error')\n" +
+                        "def raise_and_catch():\n" +
+                        "    try:\n" +
+                        "        raise_error()\n" +
+                        "    except ValueError:\n" +
+                        "        return 1\n" +
+                        "def call_host(f):\n" +
+                        "    return f()\n");
+        Value bindings = context.getBindings("python");
+        raiseError = bindings.getMember("raise_error");
+        raiseAndCatch = bindings.getMember("raise_and_catch");
+        callHost = bindings.getMember("call_host");
+        throwingHostFunction = arguments -> {
+            throw new IllegalStateException("error");
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int pythonExceptionCaughtInPython() {
+        return raiseAndCatch.execute().asInt();
+    }
+
+    @Benchmark
+    public boolean pythonExceptionCaughtInHost() {
+        try {
+            raiseError.execute();
+            throw new AssertionError("should not reach here");
+        } catch (PolyglotException e) {
+            return e.isGuestException();
+        }
+    }
+
+    @Benchmark
+    public boolean hostExceptionThroughPython() {
+        try {
+            callHost.execute(throwingHostFunction);
+            throw new AssertionError("should not reach here");
+        } catch (PolyglotException e) {
+            return e.isHostException();
+        }
+    }
+}
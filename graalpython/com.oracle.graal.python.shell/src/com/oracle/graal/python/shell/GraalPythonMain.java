@@ -100,6 +100,7 @@ public class GraalPythonMain extends AbstractLanguageLauncher {
     private boolean multiContext = false;
     private boolean snaptshotStartup = false;
     private boolean warnDefaultEncoding = false;
+    private boolean startupTimes = false;
     private int intMaxStrDigits = -1;
     private VersionAction versionAction = VersionAction.None;
     private List<String> givenArguments;
@@ -313,6 +314,8 @@ public class GraalPythonMain extends AbstractLanguageLauncher {
                             String xOption = getShortOptionParameter(argumentIterator, remainder, 'X');
                             if ("warn_default_encoding".equals(xOption)) {
                                 warnDefaultEncoding = true;
+                            } else if ("startup_times".equals(xOption)) {
+                                startupTimes = true;
                             } else if (xOption.startsWith("int_max_str_digits")) {
                                 int eq = xOption.indexOf('=');
                                 if (eq > 0) {
@@ -645,6 +648,9 @@ public class GraalPythonMain extends AbstractLanguageLauncher {
         contextBuilder.option("python.IsolateFlag", Boolean.toString(isolateFlag));
         contextBuilder.option("python.WarnOptions", warnOptions);
         contextBuilder.option("python.WarnDefaultEncodingFlag", Boolean.toString(warnDefaultEncoding));
+        if (startupTimes) {
+            contextBuilder.option("python.StartupTimesFlag", "true");
+        }
         if (intMaxStrDigits > 0) {
             contextBuilder.option("python.IntMaxStrDigits", Integer.toString(intMaxStrDigits));
         }
@@ -929,7 +935,8 @@ public class GraalPythonMain extends AbstractLanguageLauncher {
                         "         can be supplied multiple times to increase verbosity\n" +
                         "-V     : print the Python version number and exit (also --version)\n" +
                         "         when given twice, print more information about the build\n" +
-                        "-X opt : CPython implementation-specific options. warn_default_encoding and int_max_str_digits are supported on GraalPy\n" +
+                        "-X opt : CPython implementation-specific options. warn_default_encoding and int_max_str_digits are supported on GraalPy;\n" +
+                        "         -X startup_times prints the time spent in each phase of the interpreter startup\n" +
                         "-W arg : warning control; arg is action:message:category:module:lineno\n" +
                         "         also PYTHONWARNINGS=arg\n" +
                         // "-x : skip first line of source, allowing use of non-Unix forms of
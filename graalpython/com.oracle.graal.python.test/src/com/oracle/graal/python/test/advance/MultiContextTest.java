@@ -40,8 +40,12 @@
  */
 package com.oracle.graal.python.test.advance;
 
+import static org.junit.Assert.assertEquals;
+
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
 import org.junit.Test;
 
 import com.oracle.graal.python.test.PythonTests;
@@ -85,6 +89,27 @@ public class MultiContextTest extends PythonTests {
         }
     }
 
+    @Test
+    public void testGlobalsAreContextSpecific() {
+        Engine engine = Engine.newBuilder().build();
+        Source source = Source.create("python", "def read():\n" +
+                        "    return (x, len('ab'))\n" +
+                        "results = [read() for i in range(1000)]\n" +
+                        "globals()[1] = 'generalize the module dict storage'\n" +
+                        "x = -x\n" +
+                        "results.append(read())\n" +
+                        "results");
+        for (int i = 0; i < 10; i++) {
+            try (Context context = newContext(engine)) {
+                context.eval("python", "x = " + i);
+                Value results = context.eval(source);
+                assertEquals(i, results.getArrayElement(0).getArrayElement(0).asInt());
+                assertEquals(2, results.getArrayElement(999).getArrayElement(1).asInt());
+                assertEquals(-i, results.getArrayElement(1000).getArrayElement(0).asInt());
+            }
+        }
+    }
+
     private static Context newContext(Engine engine) {
         return Context.newBuilder().allowExperimentalOptions(true).allowAllAccess(true).engine(engine).build();
     }
@@ -40,15 +40,18 @@
  */
 package com.oracle.graal.python.test.interop;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Context.Builder;
@@ -190,6 +193,80 @@ public class InteropLibraryTest extends PythonTests {
         fail("didn't throw exception");
     }
 
+    @Test
+    public void testBufferElements() {
+        Value bytes = v("b'\\x01\\x02\\x03\\x04'");
+        assertTrue(bytes.hasBufferElements());
+        assertFalse(bytes.isBufferWritable());
+        assertEquals(4, bytes.getBufferSize());
+        assertEquals(3, bytes.readBufferByte(2));
+        assertEquals(0x01020304, bytes.readBufferInt(ByteOrder.BIG_ENDIAN, 0));
+        assertEquals(0x04030201, bytes.readBufferInt(ByteOrder.LITTLE_ENDIAN, 0));
+        byte[] dest = new byte[3];
+        bytes.readBuffer(1, dest, 0, 3);
+        assertArrayEquals(new byte[]{2, 3, 4}, dest);
+        try {
+            bytes.writeBufferByte(0, (byte) 0);
+            fail("bytes must not be writable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            bytes.readBufferLong(ByteOrder.LITTLE_ENDIAN, 0);
+            fail("read must be out of bounds");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        Value array = v("__import__('array').array('d', [1.5, 2.5])");
+        assertTrue(array.isBufferWritable());
+        assertEquals(2.5, array.readBufferDouble(ByteOrder.nativeOrder(), 8), 0);
+        array.writeBufferDouble(ByteOrder.nativeOrder(), 0, 4.0);
+        assertEquals(4.0, array.getArrayElement(0).asDouble(), 0);
+
+        Value view = v("memoryview(bytearray(b'abcd'))[1:]");
+        assertTrue(view.isBufferWritable());
+        assertEquals(3, view.getBufferSize());
+        assertEquals('b', view.readBufferByte(0));
+
+        assertFalse(v("memoryview(b'abcd')[::2]").hasBufferElements());
+        assertFalse(v("[1, 2, 3]").hasBufferElements());
+    }
+
+    @Test
+    public void testCollectionConversions() {
+        Value list = v("[1.5, 2.5, 3.5]");
+        assertEquals(3, list.getArraySize());
+        assertEquals(2.5, list.getArrayElement(1).asDouble(), 0);
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5}, list.as(double[].class), 0);
+        try {
+            list.getArrayElement(3);
+            fail("read must be out of bounds");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // expected
+        }
+
+        Value subclassList = v("type('L', (list,), {'__getitem__': lambda self, i: 42, '__len__': lambda self: 1})([1, 2, 3])");
+        assertEquals(1, subclassList.getArraySize());
+        assertEquals(42, subclassList.getArrayElement(0).asInt());
+
+        Value dict = v("{'a': 1, 'b': 2}");
+        Map<?, ?> map = dict.as(Map.class);
+        assertEquals(2, map.size());
+        assertEquals(2, ((Number) map.get("b")).intValue());
+        assertTrue(dict.getHashKeysIterator().hasIteratorNextElement());
+
+        Value listFactory = v("list");
+        Value fromDoubles = listFactory.execute(new double[]{1.0, 2.0});
+        assertEquals(2, fromDoubles.getArraySize());
+        assertEquals(2.0, fromDoubles.getArrayElement(1).asDouble(), 0);
+        int[] ints = {1, 2, 3};
+        Value fromInts = listFactory.execute(ints);
+        ints[0] = 7;
+        assertEquals(1, fromInts.getArrayElement(0).asInt());
+        assertEquals(3, listFactory.execute(new long[]{1L, 2L, Long.MAX_VALUE}).getArraySize());
+    }
+
     private static final class LazyArray implements ProxyArray {
 
         private final Iterator<?> it;
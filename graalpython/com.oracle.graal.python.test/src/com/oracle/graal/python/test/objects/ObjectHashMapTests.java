@@ -55,6 +55,7 @@ import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageForEachCallback;
@@ -87,8 +88,8 @@ public class ObjectHashMapTests {
         @Override
         public boolean execute(Frame frame, Object a, Object b) {
             // Sanity check: we do not use any other keys in the tests
-            assert a instanceof Long || a instanceof DictKey;
-            assert b instanceof Long || b instanceof DictKey;
+            assert a instanceof Integer || a instanceof Long || a instanceof DictKey;
+            assert b instanceof Integer || b instanceof Long || b instanceof DictKey;
             // the hashmap should never call __eq__ unless the hashes match
             assertEquals("keys: " + a + ", " + b, getKeyHash(a), getKeyHash(b));
             return a.equals(b);
@@ -157,6 +158,95 @@ public class ObjectHashMapTests {
         }
     }
 
+    @Test
+    public void testIntKeysAndTransitionToGenericKeys() {
+        ObjectHashMap map = new ObjectHashMap();
+        LinkedHashMap<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            Object value = newValue();
+            put(map, i, i, value);
+            expected.put(i, value);
+            assertEqual(i, expected, map);
+        }
+        long bigKey = 1L << 40;
+        put(map, bigKey, bigKey, "big");
+        expected.put(bigKey, "big");
+        for (int i = 0; i < 100; i += 3) {
+            remove(map, i, i);
+            expected.remove(i);
+            assertEqual(i, expected, map);
+        }
+
+        // a key that collides with an existing int key, but is not equal to it
+        DictKey collidingKey = new DictKey(7);
+        put(map, collidingKey, 7, "colliding");
+        expected.put(collidingKey, "colliding");
+        assertEqual("after transition", expected, map);
+
+        // -1 is the one small int that is not equal to its hash
+        put(map, -1, PyObjectHashNode.hash(-1L), "minus one");
+        expected.put(-1, "minus one");
+        assertEqual("after -1", expected, map);
+
+        ObjectHashMap copy = map.copy();
+        assertEqual("copy", expected, copy);
+    }
+
+    @Test
+    public void testNoneValuesAndTransitionToOtherValues() {
+        ObjectHashMap map = new ObjectHashMap();
+        LinkedHashMap<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            put(map, i, i, PNone.NONE);
+            expected.put(i, PNone.NONE);
+        }
+        for (int i = 0; i < 50; i += 2) {
+            remove(map, i, i);
+            expected.remove(i);
+            assertEqual(i, expected, map);
+        }
+        // compaction and rehashing with removed entries
+        for (int i = 100; i < 150; i++) {
+            put(map, i, i, PNone.NONE);
+            expected.put(i, PNone.NONE);
+        }
+        assertEqual("after rehash", expected, map);
+
+        put(map, 7, 7, "seven");
+        expected.put(7, "seven");
+        assertEqual("after values transition", expected, map);
+
+        DictKey key = new DictKey(3);
+        put(map, key, 3, PNone.NONE);
+        expected.put(key, PNone.NONE);
+        assertEqual("after keys transition", expected, map);
+    }
+
+    @Test
+    public void testLongKeysBulkOperations() {
+        ObjectHashMap a = new ObjectHashMap();
+        ObjectHashMap b = new ObjectHashMap();
+        for (int i = 0; i < 100; i++) {
+            put(a, i, i, PNone.NONE);
+            put(b, i + 50, i + 50, "b" + i);
+        }
+        assertTrue(a.hasOnlyLongKeys() && b.hasOnlyLongKeys());
+
+        ObjectHashMap intersection = ObjectHashMap.intersectLongKeys(a, b);
+        assertEquals(50, intersection.size());
+        assertEquals("b0", get(intersection, 50, 50));
+        assertEquals(50, ObjectHashMap.diffLongKeys(a, b).size());
+        assertEquals(100, ObjectHashMap.xorLongKeys(a, b).size());
+        assertTrue(ObjectHashMap.anyLongKeyIn(a, b, true));
+        assertTrue(ObjectHashMap.anyLongKeyIn(a, b, false));
+        assertNull(get(ObjectHashMap.diffLongKeys(a, b), 50, 50));
+
+        ObjectHashMap.addAllLongKeys(b, a);
+        assertEquals(150, a.size());
+        assertEquals("b99", get(a, 149, 149));
+        assertEquals(PNone.NONE, get(a, 10, 10));
+    }
+
     @Test
     public void testLongHashMapStressTest() {
         ObjectHashMap map = new ObjectHashMap();
@@ -332,6 +422,9 @@ public class ObjectHashMapTests {
     }
 
     private static long getKeyHash(Object key) {
+        if (key instanceof Integer) {
+            return PyObjectHashNode.hash((Integer) key);
+        }
         return key instanceof Long ? PyObjectHashNode.hash((Long) key) : ((DictKey) key).hash;
     }
 
@@ -33,6 +33,14 @@ import static com.oracle.graal.python.nodes.SpecialAttributeNames.T___PACKAGE__;
 import static com.oracle.graal.python.test.PythonTests.ts;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+
+import org.graalvm.polyglot.Context;
 
 import org.junit.After;
 import org.junit.Before;
@@ -40,18 +48,27 @@ import org.junit.Test;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.CodeNodes.GetCodeCallTargetNode;
+import com.oracle.graal.python.builtins.objects.code.PCode;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.FrozenModules;
+import com.oracle.graal.python.builtins.objects.module.PythonFrozenModule;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
 import com.oracle.graal.python.nodes.BuiltinNames;
 import com.oracle.graal.python.nodes.SpecialMethodNames;
+import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.test.PythonTests;
+import com.oracle.truffle.api.RootCallTarget;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.strings.TruffleString;
 
 public class PythonModuleTests {
+    private Context polyglotContext;
     private PythonContext context;
 
     private static class PythonModuleTestRootNode extends RootNode {
@@ -79,13 +96,14 @@ public class PythonModuleTests {
 
     @Before
     public void setUp() {
-        PythonTests.enterContext();
+        polyglotContext = PythonTests.enterContext();
         context = PythonContext.get(null);
     }
 
     @After
     public void tearDown() {
         context = null;
+        polyglotContext = null;
         PythonTests.closeContext();
     }
 
@@ -123,4 +141,47 @@ public class PythonModuleTests {
         Object returned = callBuiltin(abs, -42);
         assertEquals(42, (int) returned);
     }
+
+    @Test
+    public void lazyBuiltinModuleTest() {
+        TruffleString cmath = tsLiteral("cmath");
+        assertTrue(context.isBuiltinModulePending(cmath));
+        PythonModule module = context.lookupBuiltinModule(cmath);
+        assertFalse(context.isBuiltinModulePending(cmath));
+        assertNotSame(PNone.NO_VALUE, module.getAttribute(tsLiteral("sqrt")));
+    }
+
+    private PCode getFrozenObject(PythonContext ctx, String name) {
+        PythonModule imp = ctx.lookupBuiltinModule(tsLiteral("_imp"));
+        return (PCode) callBuiltin(imp.getAttribute(tsLiteral("get_frozen_object")), ts(name));
+    }
+
+    @Test
+    public void frozenCodeSharedBetweenContexts() {
+        PythonFrozenModule frozen = FrozenModules.lookup("__hello__");
+        PCode firstCode = getFrozenObject(context, "__hello__");
+        RootCallTarget firstCallTarget = GetCodeCallTargetNode.executeUncached(firstCode);
+        polyglotContext.eval("python", "setattr(__import__('__hello__'), 'marker', 42)");
+
+        polyglotContext.leave();
+        try (Context other = Context.newBuilder().engine(polyglotContext.getEngine()).allowAllAccess(true).out(new ByteArrayOutputStream()).build()) {
+            other.initialize("python");
+            other.enter();
+            try {
+                PythonContext otherContext = PythonContext.get(null);
+                assertNotSame(context, otherContext);
+                PCode secondCode = getFrozenObject(otherContext, "__hello__");
+                assertNotSame(firstCode, secondCode);
+                RootCallTarget secondCallTarget = GetCodeCallTargetNode.executeUncached(secondCode);
+                assertSame(firstCallTarget, secondCallTarget);
+                assertSame(frozen.getFrozenCode().getCodeUnit(), ((PBytecodeRootNode) secondCallTarget.getRootNode()).getCodeUnit());
+                assertFalse(other.eval("python", "hasattr(__import__('__hello__'), 'marker')").asBoolean());
+            } finally {
+                other.leave();
+            }
+        } finally {
+            polyglotContext.enter();
+        }
+        assertTrue(polyglotContext.eval("python", "__import__('__hello__').marker == 42").asBoolean());
+    }
 }
@@ -347,3 +347,47 @@ class TestMisc(CPyExtTestCase):
         arguments=["PyObject* value"],
         cmpfunc=unhandled_error_compare
     )
+
+
+CAPI_STATS_CODE = """
+import sys
+sys.path.insert(0, %r)
+from CApiStatsCounter import CApiStatsCounter
+
+def noargs_calls():
+    return sum(e[2] for e in __graalpython__.capi_stats() if e[0] == "NOARGS J->N")
+
+stats = __graalpython__.capi_stats()
+assert isinstance(stats, list)
+for name, from_java, calls, samples, sampled_ns, histogram in stats:
+    assert isinstance(name, str)
+    assert isinstance(from_java, bool)
+    assert calls >= samples >= 0
+    assert sampled_ns >= 0
+    assert sum(histogram) == samples
+obj = CApiStatsCounter()
+before = noargs_calls()
+for i in range(100):
+    assert obj.answer() == 42
+assert noargs_calls() >= before + 100, (before, noargs_calls())
+__graalpython__.capi_stats_reset()
+assert noargs_calls() == 0
+obj.answer()
+assert noargs_calls() == 1
+"""
+
+
+def test_capi_stats():
+    if GRAALPYTHON:
+        import subprocess
+        from . import CPyExtType
+        # disabled by default
+        assert __graalpython__.capi_stats() is None
+        CPyExtType("CApiStatsCounter",
+                   """
+                   static PyObject* answer(PyObject* self) {
+                       return PyLong_FromLong(42);
+                   }
+                   """,
+                   tp_methods='{"answer", (PyCFunction)answer, METH_NOARGS, ""}')
+        subprocess.check_call([sys.executable, '--experimental-options', '--python.CApiStats=true', '-c', CAPI_STATS_CODE % __dir__])
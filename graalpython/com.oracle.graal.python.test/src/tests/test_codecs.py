@@ -361,3 +361,27 @@ class UTFByteOrderTest(unittest.TestCase):
             self.assertEqual(b'\x02\xf6\x01\x00'.decode('utf-32'), "😂")
         else:
             self.assertEqual(b'\x00\x01\xf6\x02'.decode('utf-32'), "😂")
+
+
+class CommonCodecsTest(unittest.TestCase):
+    def test_valid_roundtrip(self):
+        for s in ["", "abc", "caf\xe9", "€ uro", "😂 emoji"]:
+            for enc in ["utf-8", "utf-16-le", "utf-16-be", "utf-32-le", "utf-32-be"]:
+                self.assertEqual(s.encode(enc).decode(enc), s)
+        self.assertEqual("caf\xe9".encode("latin-1"), b"caf\xe9")
+        self.assertEqual(b"caf\xe9".decode("latin-1"), "caf\xe9")
+        self.assertEqual(bytearray(b"abc").decode("ascii"), "abc")
+        self.assertEqual(codecs.utf_16_le_decode(b"a\x00b"), ("a", 2))
+
+    def test_invalid_input_uses_error_handlers(self):
+        self.assertRaises(UnicodeEncodeError, "caf\xe9".encode, "ascii")
+        self.assertEqual("caf\xe9".encode("ascii", "replace"), b"caf?")
+        self.assertEqual("€".encode("latin-1", "ignore"), b"")
+        self.assertEqual("a\udc80".encode("utf-8", "surrogateescape"), b"a\x80")
+        self.assertRaises(UnicodeEncodeError, "\ud800".encode, "utf-16-le")
+        self.assertRaises(UnicodeDecodeError, b"caf\xe9".decode, "ascii")
+        self.assertEqual(b"a\xff\xfeb".decode("utf-8", "surrogateescape"), "a\udcff\udcfeb")
+        self.assertEqual(b"a\xffb".decode("utf-8", "replace"), "a\ufffdb")
+        self.assertEqual(b"a\xffb".decode("ascii", "ignore"), "ab")
+        self.assertRaises(UnicodeDecodeError, b"\x00\xd8".decode, "utf-16-le")
+        self.assertRaises(UnicodeDecodeError, b"\x00\xd8\x00\x00".decode, "utf-32-le")
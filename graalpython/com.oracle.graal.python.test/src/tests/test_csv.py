@@ -100,6 +100,17 @@ class TestDialectValidity(unittest.TestCase):
         self.assertEqual(d.escapechar, "")
 
 
-
-
-
+class TestFieldDedup(unittest.TestCase):
+    def test_repeated_fields_share_strings(self):
+        import sys
+        rows = ["id,color,%s" % ("x" * 100)] + ["%d,crimson,%s" % (i, "y" * 100) for i in range(5)]
+        if sys.implementation.name == 'graalpy':
+            before = __graalpython__.intern_stats()
+        result = list(csv.reader(rows))
+        self.assertEqual([r[1] for r in result[1:]], ["crimson"] * 5)
+        self.assertEqual([r[2] for r in result[1:]], ["y" * 100] * 5)
+        if sys.implementation.name == 'graalpy':
+            after = __graalpython__.intern_stats()
+            # every row after the first reuses the short "crimson" field, the long one is not shared
+            self.assertGreaterEqual(after['hits'] - before['hits'], 4)
+            self.assertGreaterEqual(after['saved_bytes'] - before['saved_bytes'], 4 * len("crimson"))
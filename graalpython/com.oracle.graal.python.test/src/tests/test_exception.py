@@ -28,6 +28,39 @@ def fun4(test_obj):
     except:
         fun3(test_obj, ValueError)
 
+
+EXCEPTION_STATS_CODE = """
+def lookup(d, k):
+    try:
+        return d[k]
+    except KeyError:
+        return None
+
+def fail():
+    raise ValueError("fail")
+
+__graalpython__.exception_stats_reset()
+for i in range(10):
+    lookup({}, i)
+stats = __graalpython__.exception_stats()
+assert stats['raised'] >= 10, stats
+assert stats['caught'] >= 10, stats
+assert stats['materialized_tracebacks'] == 0, stats
+
+try:
+    fail()
+except ValueError as e:
+    tb = e.__traceback__
+assert tb.tb_next.tb_frame.f_code.co_name == 'fail'
+stats = __graalpython__.exception_stats()
+assert stats['materialized_tracebacks'] >= 1, stats
+assert stats['materialized_traceback_frames'] >= 1, stats
+assert stats['escaped_frames'] >= 1, stats
+
+__graalpython__.exception_stats_reset()
+assert all(v == 0 for v in __graalpython__.exception_stats().values())
+"""
+
 class ExceptionTests(unittest.TestCase):
 
     def test_exc_info(self):
@@ -642,3 +675,10 @@ class ExceptionTests(unittest.TestCase):
         exec("try:1/0\nexcept Exception as e: pass", g)
         assert 'e' not in g
 
+
+    @unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy specific")
+    def test_exception_stats(self):
+        import subprocess
+        # the counters are disabled by default
+        self.assertIsNone(__graalpython__.exception_stats())
+        subprocess.check_call([sys.executable, '--experimental-options', '--python.ExceptionStats=true', '-c', EXCEPTION_STATS_CODE])
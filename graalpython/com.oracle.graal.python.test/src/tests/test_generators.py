@@ -59,6 +59,27 @@ class ExceptionTest(unittest.TestCase):
             self.assertEqual(next(g), "done")
         self.assertEqual(sys.exc_info(), (None, None, None))
 
+    def test_except_alternating_resumes(self):
+        def gen():
+            for i in range(1, 6):
+                received = yield sys.exc_info()[0]
+                self.assertEqual(received, i if i % 3 else None)
+            yield sys.exc_info()[0]
+
+        g = gen()
+        self.assertIsNone(next(g))
+        for i in range(1, 6):
+            if i % 2:
+                try:
+                    raise KeyError
+                except KeyError:
+                    exc_type = g.send(i) if i % 3 else next(g)
+                self.assertEqual(exc_type, KeyError)
+            else:
+                exc_type = g.send(i) if i % 3 else next(g)
+                self.assertIsNone(exc_type)
+        self.assertEqual(sys.exc_info(), (None, None, None))
+
     # def test_except_gen_except(self):
     #     def gen():
     #         try:
@@ -85,6 +85,18 @@ def test_string_interned():
     y='1234'
     assert id(x) == id(y) == id('1234') == id(sys.intern('1234')) == id(sys.intern(x)) == id(sys.intern(y))
 
+def test_intern_shares_computed_strings():
+    x = ''.join(['computed', '-', 'string'])
+    y = ''.join(['computed', '-', 'string'])
+    if sys.implementation.name == 'graalpy':
+        before = __graalpython__.intern_stats()
+    assert sys.intern(x) is x
+    assert sys.intern(y) is x
+    if sys.implementation.name == 'graalpy':
+        after = __graalpython__.intern_stats()
+        assert after['hits'] - before['hits'] >= 1
+        assert after['saved_bytes'] - before['saved_bytes'] >= 4 * len(y)
+
 # skip until is fixed: GR-28568
 # def test_string_noninterned():
 #     x = '1234'
@@ -173,3 +173,12 @@ def test_local_property_25274():
 
 
     
+
+def test_lazily_populated_builtin_modules():
+    import cmath, errno, _json
+    assert cmath.sqrt(-1) == 1j
+    assert cmath.pi > 3.14
+    assert errno.errorcode[errno.ENOENT] == 'ENOENT'
+    assert callable(_json.encode_basestring_ascii)
+    for name in ('cmath', 'errno', '_json'):
+        assert name in sys.builtin_module_names
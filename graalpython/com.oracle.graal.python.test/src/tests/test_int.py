@@ -356,6 +356,33 @@ def test_create_int_from_string():
         assert False, "expected TypeError"
 
 
+def test_create_int_from_long_decimal_string():
+    digits = "".join(str(i % 10) for i in range(3000))
+    value = int(digits)
+    assert str(value) == digits.lstrip("0")
+    assert int("-" + digits) == -value
+    assert int("+" + digits) == value
+    assert int("_".join(digits[i:i + 3] for i in range(0, len(digits), 3))) == value
+    assert int(digits[:1500] + "\u0661" + digits[1501:]) == int(digits[:1500] + "1" + digits[1501:])
+    for invalid in (digits[:2000] + "-" + digits[2000:], digits[:2000] + "a" + digits[2000:]):
+        try:
+            int(invalid)
+        except ValueError:
+            pass
+        else:
+            assert False, "expected ValueError"
+
+
+def test_pow_modulo():
+    for base, exp, mod in ((3, 200, 1000003), (-7, 13, 97), (2, 0, 1), (5, 0, -3), (5, 3, -7), (10**20, 5, 1009), (12345, 67, 2**61 - 1)):
+        expected = 1 % mod
+        for _ in range(exp):
+            expected = expected * base % mod
+        assert pow(base, exp, mod) == expected, (base, exp, mod)
+    assert pow(3, 10**20, 1009) == pow(3, 10**20 % 1008, 1009)
+    assert pow(3, -1, 7) == 5
+
+
 def test_create_int_from_float():
     assert int(123.0) == 123
     assert int(123.4) == 123
@@ -284,6 +284,35 @@ class IOBaseTests(unittest.TestCase):
         s.write('ab')
         self.assertEqual('heabo', s.getvalue())
 
+    def test_stringio_repeated_getvalue(self):
+        s = _io.StringIO()
+        expected = ''
+        for i in range(200):
+            s.write(str(i))
+            expected += str(i)
+            self.assertEqual(expected, s.getvalue())
+        s.seek(3)
+        s.write('xy')
+        expected = expected[:3] + 'xy' + expected[5:]
+        self.assertEqual(expected, s.getvalue())
+        s.seek(0, 2)
+        s.write('end')
+        self.assertEqual(expected + 'end', s.getvalue())
+        s.truncate(4)
+        self.assertEqual(expected[:4], s.getvalue())
+        self.assertEqual(expected[:4], s.getvalue())
+
+    def test_stringio_getvalue_not_changed_by_writes(self):
+        s = _io.StringIO()
+        values = [s.getvalue()]
+        for i in range(100):
+            s.write('a' * i)
+            values.append(s.getvalue())
+        s.seek(0)
+        s.write('z' * 5000)
+        for i, v in enumerate(values):
+            self.assertEqual('a' * (i * (i - 1) // 2), v)
+
     def test_cr_not_ignored(self):
         d = _io.IncrementalNewlineDecoder(None, translate=False)
         d.decode("h\rello")
@@ -135,3 +135,54 @@ class CombinationsTests(unittest.TestCase):
         p = pairwise("abcd")
         self.assertEqual(list(p), [('a', 'b'), ('b', 'c'), ('c', 'd')])
         self.assertEqual(list(p), [])
+
+
+class MaterializeTests(unittest.TestCase):
+
+    def test_repeat(self):
+        self.assertEqual(list(repeat(3, 4)), [3, 3, 3, 3])
+        self.assertEqual(list(repeat(1.5, 2)), [1.5, 1.5])
+        self.assertEqual(tuple(repeat('a', 3)), ('a', 'a', 'a'))
+        self.assertEqual(list(repeat(None, 0)), [])
+        r = repeat(True, 2)
+        self.assertEqual(list(r), [True, True])
+        self.assertEqual(list(r), [])
+
+    def test_repeat_too_large(self):
+        self.assertRaises(MemoryError, list, repeat(0, sys.maxsize))
+        self.assertRaises(MemoryError, tuple, repeat('a', sys.maxsize))
+
+    def test_islice_consumes_source(self):
+        for data in ([1, 2, 3, 4, 5, 6, 7], (1.0, 2.0, 3.0), list('abcdef'), []):
+            for args in ((2,), (1, 5), (1, None, 2), (0, 4, 3), (5, 2), (10,), (2, 100, 4), (0, None, 10)):
+                source = iter(data)
+                expected_source = (x for x in data)
+                s = islice(source, *args)
+                self.assertEqual(list(s), list(islice(expected_source, *args)), (data, args))
+                self.assertEqual(list(s), [])
+                self.assertEqual(list(source), list(expected_source), (data, args))
+
+    def test_islice_started_source(self):
+        source = iter([1, 2, 3, 4])
+        next(source)
+        self.assertEqual(list(islice(source, 2)), [2, 3])
+        self.assertEqual(list(source), [4])
+
+
+class TeeTests(unittest.TestCase):
+
+    def test_tee_lockstep_and_lagging(self):
+        n = 1000
+        a, b, c = tee(iter(range(n)), 3)
+        self.assertEqual([next(a) for _ in range(10)], list(range(10)))
+        self.assertEqual(list(b), list(range(n)))
+        self.assertEqual(list(a), list(range(10, n)))
+        self.assertEqual(list(c), list(range(n)))
+
+    def test_tee_copies_share_position(self):
+        a, = tee([1, 2, 3, 4], 1)
+        next(a)
+        b, c = tee(a)
+        self.assertIs(b, a)
+        self.assertEqual(list(c), [2, 3, 4])
+        self.assertEqual(list(b), [2, 3, 4])
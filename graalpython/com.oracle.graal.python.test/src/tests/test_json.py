@@ -83,3 +83,20 @@ class JsonTest(unittest.TestCase):
             1521583201347000000,
             10,
         }
+
+    def test_load_repeated_keys(self):
+        import json, sys
+        long_key = "k" * 100
+        doc = '[{"id": 1, "name": "a", "%s": 1}, {"id": 2, "name": "b", "%s": 2}]' % (long_key, long_key)
+        if sys.implementation.name == 'graalpy':
+            before = __graalpython__.intern_stats()
+        first = json.loads(doc)
+        second = json.loads(doc)
+        self.assertEqual(first, second)
+        self.assertEqual([sorted(r.keys()) for r in first], [sorted(["id", "name", long_key])] * 2)
+        self.assertEqual([r["name"] for r in second], ["a", "b"])
+        if sys.implementation.name == 'graalpy':
+            after = __graalpython__.intern_stats()
+            # the short keys of the second document reuse the strings of the first one
+            self.assertGreaterEqual(after['hits'] - before['hits'], 2)
+            self.assertGreater(after['saved_bytes'], before['saved_bytes'])
@@ -41,6 +41,12 @@ class IntTest (unittest.TestCase, BaseMarshalUnmarshal):
         self.helper(0x7f6e5d4c3b2a1908)
         self.helper(-0x7f6e5d4c3b2a1909)
 
+    def test_large_ints(self):
+        for n in (2 ** 100000 - 1, 3 ** 50000, 1 << 150000):
+            self.helper(n)
+            self.helper(-n)
+        self.assertRaises(ValueError, marshal.loads, b'l\x01\x00\x00\x00\x00\x80')
+
     def test_bool(self):
         for b in (True, False):
             self.helper(b)
@@ -147,6 +153,19 @@ class ContainerTest(unittest.TestCase, BaseMarshalUnmarshal):
         for constructor in (set, frozenset):
             self.helper(constructor(self.d.keys()))
 
+    def test_dict_keys_shared(self):
+        data = marshal.dumps({'key_one': 1, 'key_two': 2})
+        if sys.implementation.name == 'graalpy':
+            before = __graalpython__.intern_stats()
+        first = marshal.loads(data)
+        second = marshal.loads(data)
+        self.assertEqual(first, second)
+        self.assertEqual(sorted(second), ['key_one', 'key_two'])
+        if sys.implementation.name == 'graalpy':
+            after = __graalpython__.intern_stats()
+            # the keys of the second load reuse the strings of the first one
+            self.assertGreaterEqual(after['hits'] - before['hits'], 2)
+
     # TODO enable this test, when GR-13961 and GR-13962 will be fixed
     #def test_empty_frozenset_singleton(self):
     #    # marshal.loads() must reuse the empty frozenset singleton
@@ -168,6 +187,13 @@ class BufferTest(unittest.TestCase, BaseMarshalUnmarshal):
         new = marshal.loads(marshal.dumps(b))
         self.assertEqual(type(new), bytes)
 
+    def test_loads_memoryview_slice(self):
+        data = marshal.dumps(("abc", 2**100, -(2**70), [1.5, b"xyz"]))
+        view = memoryview(b"prefix" + data + b"suffix")[6:6 + len(data)]
+        self.assertEqual(marshal.loads(view), ("abc", 2**100, -(2**70), [1.5, b"xyz"]))
+        with self.assertRaises(EOFError):
+            marshal.loads(view[:-1])
+
     ## TODO currently we don't support all the variation of arrays. 
     #def test_array(self):
     #    a = array.array('b', b"abc")
@@ -997,6 +997,13 @@ class MathTests(unittest.TestCase):
             self.assertEqual(gcd(-a, -b), c)
             self.assertEqual(gcd(-b, -a), c)
 
+            self.assertEqual(gcd(-2**63, 0), 2**63)
+            self.assertEqual(gcd(-2**63, -2**63), 2**63)
+            self.assertEqual(gcd(-2**63, 6), 2)
+            self.assertEqual(gcd(12, 2**100 * 3), 12)
+            self.assertEqual(gcd(2**100 * 3, -18), 6)
+            self.assertEqual(gcd(0, -2**100), 2**100)
+
             self.assertRaises(TypeError, gcd, 120.0, 84)
             self.assertRaises(TypeError, gcd, 120, 84.0)
             self.assertEqual(gcd(MyIndexable(120), MyIndexable(84)), 12)
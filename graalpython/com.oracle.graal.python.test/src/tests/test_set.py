@@ -647,3 +647,27 @@ def test_set_iterator_reduce():
     it = s.__iter__()
     it.__reduce__()
     assert [i for i in it] == [1, 2, 3]
+
+
+def test_int_set_operations():
+    a = set(range(0, 1000, 2))
+    b = set(range(0, 1000, 3))
+    assert a & b == set(range(0, 1000, 6))
+    assert a - b == {i for i in range(0, 1000, 2) if i % 3}
+    assert a ^ b == {i for i in range(1000) if (i % 2 == 0) != (i % 3 == 0)}
+    assert (a | b) == {i for i in range(1000) if i % 2 == 0 or i % 3 == 0}
+    assert not a.isdisjoint(b)
+    assert {1, 3}.isdisjoint({2, 4})
+    assert {6, 12} <= a
+    assert not (a <= b)
+    a.discard(6)
+    a.remove(12)
+    assert 6 not in a and 12 not in a and 14 in a
+    # keys that are equal to ints, but are not ints
+    assert 2.0 in a and True not in a and 1.0 not in a
+    a.add(-1)
+    a.add('x')
+    assert -1 in a and 'x' in a and 14 in a and 6 not in a
+    d = dict.fromkeys(range(5))
+    d[2] = 'two'
+    assert d == {0: None, 1: None, 2: 'two', 3: None, 4: None}
@@ -40,6 +40,7 @@
 import unittest
 import ssl
 import os
+import sys
 import json
 
 
@@ -238,6 +239,35 @@ class CertTests(unittest.TestCase):
             else:
                 del env["SSL_CERT_DIR"]
 
+    def test_load_verify_locations_reloads_changed_file(self):
+        import tempfile
+
+        def count(ctx):
+            stats = ctx.cert_store_stats()
+            return stats["x509"] + stats["crl"]
+
+        with open(data_file("cert_rsa.pem")) as f:
+            cert1 = f.read()
+        with open(data_file("cert_rsa2.pem")) as f:
+            cert2 = f.read()
+        with tempfile.TemporaryDirectory() as d:
+            cafile = os.path.join(d, "ca.pem")
+            with open(cafile, "w") as f:
+                f.write(cert1)
+            for _ in range(3):
+                ctx = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+                ctx.load_verify_locations(cafile)
+                self.assertEqual(count(ctx), 1)
+            with open(cafile, "w") as f:
+                f.write(cert1 + cert2)
+            ctx = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+            ctx.load_verify_locations(cafile)
+            self.assertEqual(count(ctx), 2)
+            ctx = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+            ctx.load_verify_locations(cadata=cert2)
+            ctx.load_verify_locations(cadata=cert2)
+            self.assertEqual(count(ctx), 1)
+
     def test_verify_mode(self):
         signed_cert = data_file("signed_cert.pem")
         signed_cert2 = data_file("keycertecc.pem")
@@ -393,6 +423,104 @@ class CertTests(unittest.TestCase):
         server, client = check_handshake(server_context, client_context)
         self.assertEqual(client.selected_alpn_protocol(), "http/1.1")
 
+    def test_session_resumption(self):
+        server_context = ssl.SSLContext(ssl.PROTOCOL_TLS_SERVER)
+        server_context.load_cert_chain(data_file("signed_cert.pem"))
+        client_context = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+        client_context.check_hostname = False
+        client_context.verify_mode = ssl.CERT_NONE
+        # TLSv1.3 delivers session tickets only after the handshake
+        client_context.maximum_version = ssl.TLSVersion.TLSv1_2
+
+        server, client = check_handshake(server_context, client_context)
+        session = client.session
+        self.assertIsInstance(session, ssl.SSLSession)
+        self.assertIsInstance(session.id, bytes)
+        self.assertEqual(session, client.session)
+        self.assertFalse(client.session_reused)
+        self.assertEqual(client_context.session_stats()['connect_good'], 1)
+        self.assertEqual(server_context.session_stats()['accept_good'], 1)
+
+        self.assertRaises(TypeError, client_context.wrap_bio, ssl.MemoryBIO(), ssl.MemoryBIO(), session=42)
+        self.assertRaises(ValueError, server_context.wrap_bio, ssl.MemoryBIO(), ssl.MemoryBIO(), server_side=True, session=session)
+        with self.assertRaises(ValueError):
+            client.session = session
+
+        def connect(server_hostname, **kwargs):
+            c_in, c_out, s_in, s_out = ssl.MemoryBIO(), ssl.MemoryBIO(), ssl.MemoryBIO(), ssl.MemoryBIO()
+            client = client_context.wrap_bio(c_in, c_out, server_hostname=server_hostname, **kwargs)
+            server = server_context.wrap_bio(s_in, s_out, server_side=True)
+            for _ in range(5):
+                for obj, src, dst in ((client, c_out, s_in), (server, s_out, c_in)):
+                    try:
+                        obj.do_handshake()
+                    except ssl.SSLWantReadError:
+                        pass
+                    if src.pending:
+                        dst.write(src.read())
+            return client
+
+        # sessions are only resumed when passed explicitly
+        client = connect('localhost')
+        self.assertFalse(client.session_reused)
+        self.assertNotEqual(client.session, session)
+        self.assertEqual(client_context.session_stats()['hits'], 0)
+
+        client = connect('localhost', session=session)
+        self.assertTrue(client.session_reused)
+        self.assertEqual(client.session, session)
+        self.assertEqual(client_context.session_stats()['hits'], 1)
+
+        if sys.implementation.name == 'graalpy':
+            # sessions are only resumed for the host they were negotiated with, because the JDK
+            # would verify the certificate against that host (OpenSSL leaves this to the caller)
+            client = connect('otherhost', session=session)
+            self.assertFalse(client.session_reused)
+            self.assertEqual(client.server_hostname, 'otherhost')
+            self.assertEqual(client_context.session_stats()['hits'], 1)
+
+            client_context.session_cache_size = 10
+            self.assertEqual(client_context.session_cache_size, 10)
+            client_context.session_timeout = 60
+            self.assertEqual(client_context.session_timeout, 60)
+            self.assertRaises(ValueError, setattr, client_context, 'session_cache_size', -1)
+
+    def test_socket_transfer(self):
+        import socket
+        import threading
+        server_context = ssl.SSLContext(ssl.PROTOCOL_TLS_SERVER)
+        server_context.load_cert_chain(data_file("signed_cert.pem"))
+        client_context = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+        client_context.check_hostname = False
+        client_context.verify_mode = ssl.CERT_NONE
+        payload = bytes(range(256)) * 1024
+        s1, s2 = socket.socketpair()
+        received = []
+
+        def serve():
+            with server_context.wrap_socket(s1, server_side=True) as server:
+                buf = bytearray(len(payload) + 16)
+                view = memoryview(buf)
+                pos = 16
+                while pos < len(buf):
+                    n = server.recv_into(view[pos:])
+                    if not n:
+                        break
+                    pos += n
+                received.append(bytes(buf[16:pos]))
+                server.sendall(b'done')
+
+        t = threading.Thread(target=serve)
+        t.start()
+        try:
+            with client_context.wrap_socket(s2, server_hostname='localhost') as client:
+                client.sendall(payload)
+                self.assertEqual(client.recv(1024 * 1024), b'done')
+        finally:
+            t.join()
+        self.assertEqual(received, [payload])
+
+
 def get_cipher_list(cipher_string):
     context = ssl.SSLContext()
     context.set_ciphers(cipher_string)
@@ -1174,3 +1174,98 @@ def test_str_add_result_type():
     assert ('' + 'a').__class__ == str
     assert ('a' + '').__class__ == str
     assert ('a' + 'a').__class__ == str
+
+def test_repeated_concatenation():
+    s = ''
+    t = ''
+    for i in range(2000):
+        s += str(i % 10)
+        t = t + 'x'
+    assert len(s) == 2000 and len(t) == 2000
+    assert s[0] == '0' and s[-1] == '9' and s[1234] == '4'
+    assert s[:12] == '012345678901'
+    assert hash(t) == hash('x' * 2000)
+    assert {t: 1}['x' * 2000] == 1
+    assert s.encode('ascii')[-3:] == b'789'
+
+
+CONCATENATION_CODE = """
+pieces = ['a', '\\xe9', '\\u20ac', '\\U0001f600', 'bc']
+s = ''
+for i in range(3000):
+    s = s + pieces[i % len(pieces)]
+    if i % 500 == 0:
+        s = pieces[i % 3] + s
+t = s[:7] + s[-7:]
+print(len(s), s.count('\\u20ac'), ascii(s[1001]), ascii(s[-1]), hash(s) == hash(''.join(list(s))), ascii(t), s.encode('utf-8')[-5:].hex(), ascii(s.upper()[:4]))
+"""
+
+
+def test_concatenation_with_and_without_lazy_strings():
+    # runs the str + str specialization over strings of different widths with lazy concatenation on and off
+    ns = {}
+    import io, contextlib
+    out = io.StringIO()
+    with contextlib.redirect_stdout(out):
+        exec(CONCATENATION_CODE, ns)
+    expected = out.getvalue()
+    if sys.implementation.name == 'graalpy':
+        import subprocess
+        for flag in ('true', 'false'):
+            result = subprocess.check_output([sys.executable, '--python.LazyStrings=%s' % flag, '-c', CONCATENATION_CODE], text=True)
+            assert result == expected, (flag, result, expected)
+
+
+def test_repeated_format():
+    class C:
+        def __format__(self, spec):
+            return 'C(' + spec + ')'
+
+        def __repr__(self):
+            return 'rC'
+
+        def __str__(self):
+            return 'sC'
+
+    def fmt(*args, **kwargs):
+        return '{} and {!r:>4}|{x}{{}}'.format(*args, **kwargs)
+
+    def fmt_manual(*args):
+        return '{1}-{0:03}-{1!s}'.format(*args)
+
+    def mod(arg):
+        return '%s: %r 100%%' % arg
+
+    for i in range(20):
+        assert fmt(i, 'ab', x=C()) == "%d and 'ab'|C(){}" % i
+        assert fmt_manual(i, C()) == 'C()-%03d-sC' % i
+        assert mod((i, 'a')) == "%d: 'a' 100%%" % i
+        assert mod((C(), C())) == 'sC: rC 100%'
+        assert '%s!' % [i] == '[%d]!' % i
+        assert '%s!' % (i,) == '%d!' % i
+        assert '<%a>' % 'é' == "<'\\xe9'>"
+    for i in range(3):
+        try:
+            fmt(i, 'ab')
+        except KeyError as e:
+            assert e.args == ('x',)
+        else:
+            assert False
+        try:
+            fmt(i, x=1)
+        except IndexError:
+            pass
+        else:
+            assert False
+        try:
+            mod((i,))
+        except TypeError:
+            pass
+        else:
+            assert False
+        try:
+            mod((i, i, i))
+        except TypeError:
+            pass
+        else:
+            assert False
@@ -107,3 +107,37 @@ def test_weakref_hash():
             assert False, "could compute hash for r3 but should have failed"
 
         assert r1_hash == do_hash(r1)
+
+
+def test_weakref_callback_batch():
+    import gc, weakref
+    class A(): pass
+
+    called = []
+    def callback(r):
+        called.append(r)
+        if len(called) == 1:
+            # an error in one callback must not prevent the remaining ones from running
+            raise RuntimeError("ignored")
+
+    objects = [A() for i in range(100)]
+    with_callback = [weakref.ref(o, callback) for o in objects[::2]]
+    without_callback = [weakref.ref(o) for o in objects[1::2]]
+
+    unraisablehook = sys.unraisablehook
+    sys.unraisablehook = lambda *args: None
+    try:
+        objects = None
+        i = 0
+        while len(called) < len(with_callback) and i < MAX_WAIT_COUNT:
+            gc.collect()
+            i += 1
+    finally:
+        sys.unraisablehook = unraisablehook
+
+    # like above, we cannot guarantee that everything was collected, so only check what was delivered
+    assert len(called) <= len(with_callback)
+    expected = set(id(r) for r in with_callback)
+    assert all(id(r) in expected for r in called)
+    if len(called) == len(with_callback):
+        assert all(r() is None for r in with_callback)
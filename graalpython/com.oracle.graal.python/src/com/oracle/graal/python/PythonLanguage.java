@@ -59,6 +59,7 @@ import com.oracle.graal.python.builtins.objects.frame.PFrame;
 import com.oracle.graal.python.builtins.objects.function.BuiltinMethodDescriptor;
 import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.ssl.CertificateCache;
 import com.oracle.graal.python.builtins.objects.type.MroShape;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
@@ -293,6 +294,13 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
 
     private final MroShape mroShapeRoot = MroShape.createRoot();
 
+    /** Parsed CA certificates shared by all SSL contexts of this engine. */
+    private final CertificateCache certificateCache = new CertificateCache();
+
+    public CertificateCache getCertificateCache() {
+        return certificateCache;
+    }
+
     public static PythonLanguage get(Node node) {
         return REFERENCE.get(node);
     }
@@ -425,32 +433,7 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         if (MIME_TYPE_BYTECODE.equals(source.getMimeType())) {
             byte[] bytes = source.getBytes().toByteArray();
             CodeUnit code = MarshalModuleBuiltins.deserializeCodeUnit(bytes);
-            boolean internal = shouldMarkSourceInternal(context);
-            // The original file path should be passed as the name
-            String name = source.getName();
-            if (name != null && !name.isEmpty()) {
-                Source textSource = tryLoadSource(context, code, internal, name);
-                if (textSource == null) {
-                    if (name.startsWith(FROZEN_FILENAME_PREFIX) && name.endsWith(FROZEN_FILENAME_SUFFIX)) {
-                        String id = name.substring(FROZEN_FILENAME_PREFIX.length(), name.length() - FROZEN_FILENAME_SUFFIX.length());
-                        String fs = context.getEnv().getFileNameSeparator();
-                        String path = context.getStdlibHome() + fs + id.replace(".", fs) + J_PY_EXTENSION;
-                        textSource = tryLoadSource(context, code, internal, path);
-                        if (textSource == null) {
-                            path = context.getStdlibHome() + fs + id.replace(".", fs) + fs + "__init__.py";
-                            textSource = tryLoadSource(context, code, internal, path);
-                        }
-                    }
-                }
-                if (textSource != null) {
-                    source = textSource;
-                }
-            }
-            if (internal && !source.isInternal()) {
-                source = Source.newBuilder(source).internal(true).build();
-            }
-            PBytecodeRootNode rootNode = PBytecodeRootNode.create(this, code, source);
-            return PythonUtils.getOrCreateCallTarget(rootNode);
+            return createCodeUnitCallTarget(context, code, source);
         }
         for (int optimize = 0; optimize < MIME_TYPE_EVAL.length; optimize++) {
             if (MIME_TYPE_EVAL[optimize].equals(source.getMimeType())) {
@@ -467,6 +450,42 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         throw CompilerDirectives.shouldNotReachHere("unknown mime type: " + source.getMimeType());
     }
 
+    /**
+     * Creates a call target for an already deserialized code unit. The name of
+     * {@code bytecodeSource} should be the original file path. If that file can still be found, its
+     * text is used as the source.
+     */
+    @TruffleBoundary
+    public RootCallTarget createCodeUnitCallTarget(PythonContext context, CodeUnit code, Source bytecodeSource) {
+        Source source = bytecodeSource;
+        boolean internal = shouldMarkSourceInternal(context);
+        // The original file path should be passed as the name
+        String name = source.getName();
+        if (name != null && !name.isEmpty()) {
+            Source textSource = tryLoadSource(context, code, internal, name);
+            if (textSource == null) {
+                if (name.startsWith(FROZEN_FILENAME_PREFIX) && name.endsWith(FROZEN_FILENAME_SUFFIX)) {
+                    String id = name.substring(FROZEN_FILENAME_PREFIX.length(), name.length() - FROZEN_FILENAME_SUFFIX.length());
+                    String fs = context.getEnv().getFileNameSeparator();
+                    String path = context.getStdlibHome() + fs + id.replace(".", fs) + J_PY_EXTENSION;
+                    textSource = tryLoadSource(context, code, internal, path);
+                    if (textSource == null) {
+                        path = context.getStdlibHome() + fs + id.replace(".", fs) + fs + "__init__.py";
+                        textSource = tryLoadSource(context, code, internal, path);
+                    }
+                }
+            }
+            if (textSource != null) {
+                source = textSource;
+            }
+        }
+        if (internal && !source.isInternal()) {
+            source = Source.newBuilder(source).internal(true).build();
+        }
+        PBytecodeRootNode rootNode = PBytecodeRootNode.create(this, code, source);
+        return PythonUtils.getOrCreateCallTarget(rootNode);
+    }
+
     private static Source tryLoadSource(PythonContext context, CodeUnit code, boolean internal, String path) {
         try {
             return Source.newBuilder(PythonLanguage.ID, context.getEnv().getPublicTruffleFile(path)).name(code.name.toJavaStringUncached()).internal(internal).build();
@@ -46,13 +46,17 @@ import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import org.graalvm.nativeimage.ImageInfo;
@@ -312,6 +316,7 @@ import com.oracle.graal.python.builtins.objects.socket.SocketBuiltins;
 import com.oracle.graal.python.builtins.objects.ssl.MemoryBIOBuiltins;
 import com.oracle.graal.python.builtins.objects.ssl.SSLContextBuiltins;
 import com.oracle.graal.python.builtins.objects.ssl.SSLErrorBuiltins;
+import com.oracle.graal.python.builtins.objects.ssl.SSLSessionBuiltins;
 import com.oracle.graal.python.builtins.objects.ssl.SSLSocketBuiltins;
 import com.oracle.graal.python.builtins.objects.str.StringBuiltins;
 import com.oracle.graal.python.builtins.objects.superobject.SuperBuiltins;
@@ -600,6 +605,7 @@ public abstract class Python3Core {
                         PythonOptions.WITHOUT_SSL ? null : new SSLContextBuiltins(),
                         PythonOptions.WITHOUT_SSL ? null : new SSLErrorBuiltins(),
                         PythonOptions.WITHOUT_SSL ? null : new SSLSocketBuiltins(),
+                        PythonOptions.WITHOUT_SSL ? null : new SSLSessionBuiltins(),
                         PythonOptions.WITHOUT_SSL ? null : new MemoryBIOBuiltins(),
                         new BinasciiModuleBuiltins(),
                         new PosixShMemModuleBuiltins(),
@@ -735,6 +741,13 @@ public abstract class Python3Core {
     @CompilationFinal(dimensions = 1) private final PythonBuiltinClass[] builtinTypes = new PythonBuiltinClass[PythonBuiltinClassType.VALUES.length];
 
     private final Map<TruffleString, PythonModule> builtinModules = new HashMap<>();
+    /*
+     * Non-eager builtin modules whose functions and constants have not been created yet. They are
+     * populated on the first lookup (see #lookupBuiltinModule) and map to POPULATING_BUILTINS while
+     * that is in progress. Reads need no lock, updates are guarded by the map's monitor.
+     */
+    private final Map<TruffleString, Object> pendingBuiltinModules = new ConcurrentHashMap<>();
+    private static final Object POPULATING_BUILTINS = new Object();
     @CompilationFinal private PythonModule builtinsModule;
     @CompilationFinal private PythonModule sysModule;
     @CompilationFinal private PDict sysModules;
@@ -821,13 +834,37 @@ public abstract class Python3Core {
      */
     public final void initialize(PythonContext context) {
         objectFactory = new PythonObjectSlowPathFactory(context.getAllocationReporter(), context.getLanguage());
+        long start = System.nanoTime();
         initializeJavaCore();
+        start = reportStartupPhase("builtin types and modules", start);
         initializeImportlib();
+        start = reportStartupPhase("frozen importlib", start);
         initializePython3Core(context.getCoreHomeOrFail());
+        reportStartupPhase("core files", start);
         assert SpecialMethodSlot.checkSlotOverrides(this);
         initialized = true;
     }
 
+    /**
+     * Prints the time since {@code startNanos} for the given initialization phase if the
+     * {@link PythonOptions#StartupTimesFlag} is set. Returns the current time, so that consecutive
+     * phases can be chained.
+     */
+    @TruffleBoundary
+    protected final long reportStartupPhase(String phase, long startNanos) {
+        long now = System.nanoTime();
+        PythonContext context = getContext();
+        if (context.getOption(PythonOptions.StartupTimesFlag)) {
+            String message = String.format("[startup] %-28s %9.3f ms%n", phase, (now - startNanos) / 1e6);
+            try {
+                context.getStandardErr().write(message.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // ignore, the timings are only diagnostic output
+            }
+        }
+        return now;
+    }
+
     private void initializeJavaCore() {
         initializeTypes();
         populateBuiltins();
@@ -986,6 +1023,9 @@ public abstract class Python3Core {
     public final void removeBuiltinModule(TruffleString name) {
         assert !initialized : "can only remove builtin modules before initialization is finished";
         builtinModules.remove(name);
+        synchronized (pendingBuiltinModules) {
+            pendingBuiltinModules.remove(name);
+        }
         if (sysModules != null) {
             // may already be published
             sysModules.delItem(name);
@@ -994,7 +1034,34 @@ public abstract class Python3Core {
 
     @TruffleBoundary
     public final PythonModule lookupBuiltinModule(TruffleString name) {
-        return builtinModules.get(name);
+        PythonModule module = builtinModules.get(name);
+        if (module != null && pendingBuiltinModules.containsKey(name)) {
+            /*
+             * The entry is only removed once the module is fully populated, so populated modules
+             * are returned without locking and other threads wait on the lock until then. The
+             * module's initialization may look itself up on this thread, which then finds it
+             * marked as populating.
+             */
+            synchronized (pendingBuiltinModules) {
+                Object pending = pendingBuiltinModules.get(name);
+                if (pending instanceof PythonBuiltins) {
+                    PythonBuiltins builtin = (PythonBuiltins) pending;
+                    pendingBuiltinModules.put(name, POPULATING_BUILTINS);
+                    try {
+                        builtin.initialize(this);
+                        addBuiltinsTo(module, builtin);
+                    } finally {
+                        pendingBuiltinModules.remove(name);
+                    }
+                }
+            }
+        }
+        return module;
+    }
+
+    @TruffleBoundary
+    public final boolean isBuiltinModulePending(TruffleString name) {
+        return pendingBuiltinModules.containsKey(name);
     }
 
     public final PythonBuiltinClass lookupType(PythonBuiltinClassType type) {
@@ -1117,9 +1184,22 @@ public abstract class Python3Core {
     }
 
     private void populateBuiltins() {
+        Set<String> extendedModules = new HashSet<>();
+        for (PythonBuiltins builtin : builtins) {
+            CoreFunctions annotation = builtin.getClass().getAnnotation(CoreFunctions.class);
+            if (annotation.extendsModule().length() > 0) {
+                extendedModules.add(annotation.extendsModule());
+            }
+        }
         for (PythonBuiltins builtin : builtins) {
-            builtin.initialize(this);
             CoreFunctions annotation = builtin.getClass().getAnnotation(CoreFunctions.class);
+            if (canPopulateLazily(builtin, annotation, extendedModules)) {
+                synchronized (pendingBuiltinModules) {
+                    pendingBuiltinModules.put(toTruffleStringUncached(annotation.defineModule()), builtin);
+                }
+                continue;
+            }
+            builtin.initialize(this);
             if (annotation.defineModule().length() > 0) {
                 PythonModule module = builtinModules.get(toTruffleStringUncached(annotation.defineModule()));
                 if (module != null) {
@@ -1142,6 +1222,22 @@ public abstract class Python3Core {
         sysModules = (PDict) sysModule.getAttribute(T_MODULES);
     }
 
+    /**
+     * Non-eager modules are only populated when they are first looked up, unless populating them
+     * has effects beyond the module object itself (i.e. they extend other modules or classes, are
+     * extended by other builtins, or construct builtin classes). When building a native image, all
+     * modules are populated eagerly so they end up in the image heap.
+     */
+    private static boolean canPopulateLazily(PythonBuiltins builtin, CoreFunctions annotation, Set<String> extendedModules) {
+        if (ImageInfo.inImageBuildtimeCode() || annotation.isEager() || annotation.defineModule().isEmpty()) {
+            return false;
+        }
+        if (annotation.extendsModule().length() > 0 || annotation.extendClasses().length != 0 || extendedModules.contains(annotation.defineModule())) {
+            return false;
+        }
+        return !builtin.constructsClasses();
+    }
+
     private PythonModule createModule(TruffleString name) {
         return createModule(name, null);
     }
@@ -236,6 +236,22 @@ public abstract class PythonBuiltins {
         // nothing to do by default
     }
 
+    /**
+     * Returns {@code true} if any builtin declared here is the constructor of a builtin class. Such
+     * builtins install {@code __new__} on the class in {@link #initialize}, so they must not be
+     * initialized lazily.
+     */
+    public final boolean constructsClasses() {
+        for (NodeFactory<? extends PythonBuiltinBaseNode> factory : getNodeFactories()) {
+            for (Builtin builtin : factory.getNodeClass().getAnnotationsByType(Builtin.class)) {
+                if (builtin.constructsClass() != PythonBuiltinClassType.nil) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private void initializeEachFactoryWith(BiConsumer<NodeFactory<? extends PythonBuiltinBaseNode>, Builtin> func) {
         List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> factories = getNodeFactories();
         assert factories != null : "No factories found. Override getFactories() to resolve this.";
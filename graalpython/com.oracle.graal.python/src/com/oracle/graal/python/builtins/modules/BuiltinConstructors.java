@@ -1267,7 +1267,9 @@ public final class BuiltinConstructors extends PythonBuiltins {
             checkMaxDigits(context, s.length(), base);
 
             BigInteger bi;
-            if (sign == '-') {
+            if (base == 10) {
+                bi = PInt.parseDecimal(sign == '-' ? "-" + s : s);
+            } else if (sign == '-') {
                 bi = new BigInteger("-" + s, base);
             } else {
                 bi = new BigInteger(s, base);
@@ -637,13 +637,28 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
         @Specialization
         byte[] encode(Object self, TruffleString encoding, TruffleString errors,
                         @Cached CastToJavaStringNode castStr,
+                        @Cached CastToTruffleStringNode castTStr,
+                        @Cached TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached TruffleString.CopyToByteArrayNode copyToByteArrayNode,
+                        @Cached ConditionProfile fastPathProfile,
                         @Cached TruffleString.EqualNode equalNode,
                         @Cached HandleEncodingErrorNode errorHandler,
                         @Cached PRaiseNode raiseNode,
                         @Cached NormalizeEncodingNameNode normalizeEncodingNameNode) {
+            TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
+            TruffleString.Encoding tsEncoding = CharsetMapping.getTruffleStringEncodingNormalized(normalizedEncoding);
+            if (tsEncoding != null) {
+                TruffleString tsInput = castTStr.execute(self);
+                if (fastPathProfile.profile(canEncodeWithoutErrors(getCodeRangeNode.execute(tsInput, TS_ENCODING), tsEncoding))) {
+                    TruffleString transcoded = switchEncodingNode.execute(tsInput, tsEncoding);
+                    byte[] bytes = new byte[transcoded.byteLength(tsEncoding)];
+                    copyToByteArrayNode.execute(transcoded, 0, bytes, 0, bytes.length, tsEncoding);
+                    return bytes;
+                }
+            }
             String input = castStr.execute(self);
             CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
-            TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
             Charset charset = CharsetMapping.getCharsetNormalized(normalizedEncoding);
             if (charset == null) {
                 throw raiseNode.raise(LookupError, ErrorMessages.UNKNOWN_ENCODING, encoding);
@@ -660,6 +675,20 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
             }
             return encoder.getBytes();
         }
+
+        /**
+         * Checks, based on the precomputed code range of the input, that none of its characters
+         * needs an error handler in the target encoding. Lone surrogates make the code range
+         * broken, which the UTF encodings must leave to the error handler.
+         */
+        private static boolean canEncodeWithoutErrors(TruffleString.CodeRange codeRange, TruffleString.Encoding tsEncoding) {
+            if (tsEncoding == TruffleString.Encoding.US_ASCII) {
+                return codeRange == TruffleString.CodeRange.ASCII;
+            } else if (tsEncoding == TruffleString.Encoding.ISO_8859_1) {
+                return codeRange.isSubsetOf(TruffleString.CodeRange.LATIN_1);
+            }
+            return codeRange != TruffleString.CodeRange.BROKEN;
+        }
     }
 
     // _codecs.encode(obj, encoding='utf-8', errors='strict')
@@ -731,14 +760,30 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
                         @Cached NormalizeEncodingNameNode normalizeEncodingNameNode,
                         @Cached InternErrorAction internErrorAction,
                         @Cached HandleDecodingErrorNode errorHandler,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
+                        @Cached TruffleString.IsValidNode isValidNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached ConditionProfile fastPathProfile,
                         @Cached PRaiseNode raiseNode,
                         @Cached PythonObjectFactory factory) {
             Object buffer = acquireLib.acquireReadonly(input, frame, node);
             try {
                 int len = bufferLib.getBufferLength(buffer);
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
-                CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
                 TruffleString normalizedEncoding = normalizeEncodingNameNode.execute(encoding);
+                TruffleString.Encoding tsEncoding = CharsetMapping.getTruffleStringEncodingNormalized(normalizedEncoding);
+                if (tsEncoding != null && len % getCodeUnitSize(tsEncoding) == 0) {
+                    /*
+                     * Validate the whole input in one go and only use the incremental java.nio
+                     * decoder if there is something for the error handler to do. The byte array
+                     * may be the internal storage of a mutable buffer, so it must be copied.
+                     */
+                    TruffleString decoded = fromByteArrayNode.execute(bytes, 0, len, tsEncoding, true);
+                    if (fastPathProfile.profile(isValidNode.execute(decoded, tsEncoding))) {
+                        return factory.createTuple(new Object[]{switchEncodingNode.execute(decoded, TS_ENCODING), len});
+                    }
+                }
+                CodingErrorAction errorAction = convertCodingErrorAction(errors, equalNode);
                 Charset charset = CharsetMapping.getCharsetForDecodingNormalized(normalizedEncoding, bytes, len);
                 if (charset == null) {
                     throw raiseNode.raise(LookupError, ErrorMessages.UNKNOWN_ENCODING, encoding);
@@ -746,8 +791,15 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
                 TruffleDecoder decoder;
                 try {
                     decoder = new TruffleDecoder(normalizedEncoding, charset, bytes, len, errorAction);
+                    TruffleString internedErrors = null;
+                    PBytes inputObject = null;
                     while (!decoder.decodingStep(finalData)) {
-                        errorHandler.execute(decoder, internErrorAction.execute(errors), factory.createBytes(bytes, len));
+                        if (inputObject == null) {
+                            // shared by all errors, the built-in handlers only need it to raise
+                            internedErrors = internErrorAction.execute(errors);
+                            inputObject = factory.createBytes(bytes, len);
+                        }
+                        errorHandler.execute(decoder, internedErrors, inputObject);
                     }
                 } catch (OutOfMemoryError e) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -760,6 +812,15 @@ public class CodecsModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    private static int getCodeUnitSize(TruffleString.Encoding tsEncoding) {
+        if (tsEncoding == TruffleString.Encoding.UTF_32) {
+            return 4;
+        } else if (tsEncoding == TruffleString.Encoding.UTF_16) {
+            return 2;
+        }
+        return 1;
+    }
+
     @Builtin(name = "escape_decode", minNumOfPositionalArgs = 1, parameterNames = {"data", "errors"})
     @ArgumentClinic(name = "data", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
     @ArgumentClinic(name = "errors", conversion = ArgumentClinic.ClinicConversion.TString, defaultValue = "T_STRICT", useDefaultForNone = true)
@@ -64,6 +64,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -81,6 +82,7 @@ import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.modules.GraalPythonModuleBuiltinsFactory.DebugNodeFactory;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTiming;
 import com.oracle.graal.python.builtins.objects.code.CodeNodes;
 import com.oracle.graal.python.builtins.objects.code.PCode;
 import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage;
@@ -99,6 +101,7 @@ import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.set.PSet;
+import com.oracle.graal.python.builtins.objects.str.StringInternTable;
 import com.oracle.graal.python.builtins.objects.str.StringUtils;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.PythonClass;
@@ -125,6 +128,7 @@ import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.PosixSupportLibrary;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.ExceptionStats;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
@@ -815,6 +819,93 @@ public class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "capi_stats", minNumOfPositionalArgs = 0, doc = "Returns a list of (name, from_java, calls, samples, sampled_ns, histogram) tuples for C API functions and transitions.\n" +
+                    "Bucket i of the histogram counts sampled calls that took between 2**i and 2**(i+1) nanoseconds.\n" +
+                    "Returns None unless the statistics are enabled with the CApiStats option.")
+    @GenerateNodeFactory
+    abstract static class CApiStatsNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doit() {
+            if (!getLanguage().getEngineOption(PythonOptions.CApiStats)) {
+                return PNone.NONE;
+            }
+            ArrayList<CApiTiming.Entry> entries = CApiTiming.getEntries(getContext().getCApiStats());
+            Object[] result = new Object[entries.size()];
+            for (int i = 0; i < result.length; i++) {
+                CApiTiming.Entry t = entries.get(i);
+                long[] histogram = t.getHistogram();
+                Object[] buckets = new Object[histogram.length];
+                for (int j = 0; j < histogram.length; j++) {
+                    buckets[j] = histogram[j];
+                }
+                result[i] = factory().createTuple(new Object[]{toTruffleStringUncached(t.getName()), t.isFromJava(), t.getCount(), t.getSamples(), t.getSampledTime(),
+                                factory().createTuple(buckets)});
+            }
+            return factory().createList(result);
+        }
+    }
+
+    @Builtin(name = "capi_stats_reset", minNumOfPositionalArgs = 0, doc = "Resets the C API call statistics.")
+    @GenerateNodeFactory
+    abstract static class CApiStatsResetNode extends PythonBuiltinNode {
+        @Specialization
+        Object doit() {
+            if (getLanguage().getEngineOption(PythonOptions.CApiStats)) {
+                CApiTiming.reset(getContext().getCApiStats());
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "exception_stats", minNumOfPositionalArgs = 0, doc = "Returns a dict with the number of raised, re-raised and caught exceptions, frames that escaped because an\n" +
+                    "exception was exposed, and tracebacks (and their frames) materialized from the captured stack traces.\n" +
+                    "Returns None unless the counters are enabled with the ExceptionStats option.")
+    @GenerateNodeFactory
+    abstract static class ExceptionStatsNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doit() {
+            if (!getLanguage().getEngineOption(PythonOptions.ExceptionStats)) {
+                return PNone.NONE;
+            }
+            String[] names = ExceptionStats.getCounterNames();
+            long[] counters = getContext().getExceptionStats().getCounters();
+            EconomicMapStorage storage = EconomicMapStorage.create(names.length);
+            for (int i = 0; i < names.length; i++) {
+                storage.putUncached(toTruffleStringUncached(names[i]), counters[i]);
+            }
+            return factory().createDict(storage);
+        }
+    }
+
+    @Builtin(name = "exception_stats_reset", minNumOfPositionalArgs = 0, doc = "Resets the exception statistics.")
+    @GenerateNodeFactory
+    abstract static class ExceptionStatsResetNode extends PythonBuiltinNode {
+        @Specialization
+        Object doit() {
+            getContext().getExceptionStats().reset();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "intern_stats", minNumOfPositionalArgs = 0, doc = "Returns a dict with the number of live entries and lookups of the string intern table, the number of lookups\n" +
+                    "that returned an existing equal string (from sys.intern, marshal, _json and _csv), and the bytes those saved.")
+    @GenerateNodeFactory
+    abstract static class InternStatsNode extends PythonBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        Object doit() {
+            String[] names = StringInternTable.getStatNames();
+            long[] stats = getContext().getStringInternTable().getStats();
+            EconomicMapStorage storage = EconomicMapStorage.create(names.length);
+            for (int i = 0; i < names.length; i++) {
+                storage.putUncached(toTruffleStringUncached(names[i]), stats[i]);
+            }
+            return factory().createDict(storage);
+        }
+    }
+
     // This is only used from HPy
     @Builtin(name = "PyTruffle_CreateType", minNumOfPositionalArgs = 4)
     @GenerateNodeFactory
@@ -96,6 +96,7 @@ import com.oracle.graal.python.builtins.objects.ints.IntBuiltins;
 import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.module.FrozenModules;
 import com.oracle.graal.python.builtins.objects.module.PythonFrozenModule;
+import com.oracle.graal.python.builtins.objects.module.PythonFrozenModule.FrozenCode;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.str.PString;
@@ -121,6 +122,7 @@ import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.RootCallTarget;
@@ -166,18 +168,23 @@ public class ImpModuleBuiltins extends PythonBuiltins {
         final boolean isPackage;
         final TruffleString origName;
         @SuppressWarnings("unused") final boolean isAlias;
+        /**
+         * The frozen module this info was found for, {@code null} if the data was passed in.
+         */
+        final PythonFrozenModule module;
 
         FrozenInfo(byte[] data, int size) {
-            this(null, data, size, false, null, false);
+            this(null, data, size, false, null, false, null);
         }
 
-        FrozenInfo(TruffleString name, byte[] data, int size, boolean isPackage, TruffleString origName, boolean isAlias) {
+        FrozenInfo(TruffleString name, byte[] data, int size, boolean isPackage, TruffleString origName, boolean isAlias, PythonFrozenModule module) {
             this.name = name;
             this.data = data;
             this.size = size;
             this.isPackage = isPackage;
             this.origName = origName;
             this.isAlias = isAlias;
+            this.module = module;
         }
     }
 
@@ -572,7 +579,11 @@ public class ImpModuleBuiltins extends PythonBuiltins {
             Object code = null;
 
             try {
-                code = MarshalModuleBuiltins.Marshal.load(info.data, info.size);
+                if (info.module != null) {
+                    code = createFrozenCode(getContext(), info.module);
+                } else {
+                    code = MarshalModuleBuiltins.Marshal.load(info.data, info.size);
+                }
             } catch (MarshalError | NumberFormatException e) {
                 raiseFrozenError(FROZEN_INVALID, name, raiseNode);
             }
@@ -694,7 +705,15 @@ public class ImpModuleBuiltins extends PythonBuiltins {
                 }
         }
 
-        PCode code = (PCode) MarshalModuleBuiltins.Marshal.load(info.data, info.size);
+        PCode code;
+        try {
+            code = createFrozenCode(core.getContext(), info.module);
+        } catch (MarshalError | NumberFormatException e) {
+            if (doRaise) {
+                raiseFrozenError(FROZEN_INVALID, name, PRaiseNode.getUncached());
+            }
+            return null;
+        }
 
         PythonModule module = globals == null ? core.factory().createPythonModule(name) : globals;
 
@@ -712,6 +731,21 @@ public class ImpModuleBuiltins extends PythonBuiltins {
         return module;
     }
 
+    /**
+     * Creates a code object for a frozen module. The deserialized code unit is shared by all
+     * contexts and, if the engine has multiple contexts, so is the call target. Throws
+     * {@link MarshalError} or {@link NumberFormatException} if the frozen data is invalid.
+     */
+    @TruffleBoundary
+    private static PCode createFrozenCode(PythonContext context, PythonFrozenModule module) {
+        FrozenCode frozen = module.getFrozenCode();
+        PythonLanguage language = context.getLanguage();
+        TruffleString filename = frozen.getFilename();
+        RootCallTarget ct = (RootCallTarget) language.cacheCode(filename,
+                        () -> language.createCodeUnitCallTarget(context, frozen.getCodeUnit(), PythonUtils.createFakeSource(filename)));
+        return context.factory().createCode(ct, frozen.getFlags(), frozen.getFirstLineNo(), frozen.getLinetable(), filename);
+    }
+
     /*
      * CPython's version of this accepts any object and casts, but all Python-level callers use
      * argument clinic to convert the name first. The only exception is
@@ -732,7 +766,8 @@ public class ImpModuleBuiltins extends PythonBuiltins {
                         module.getSize(),
                         module.isPackage(),
                         module.getName(),
-                        !equalNode.execute(name, module.getName(), TS_ENCODING));
+                        !equalNode.execute(name, module.getName(), TS_ENCODING),
+                        module);
 
         if (module.getCode() == null) {
             /* It is frozen but marked as un-importable. */
@@ -72,6 +72,7 @@ import com.oracle.graal.python.builtins.objects.itertools.PProduct;
 import com.oracle.graal.python.builtins.objects.itertools.PRepeat;
 import com.oracle.graal.python.builtins.objects.itertools.PStarmap;
 import com.oracle.graal.python.builtins.objects.itertools.PTakewhile;
+import com.oracle.graal.python.builtins.objects.itertools.PTee;
 import com.oracle.graal.python.builtins.objects.itertools.PTeeDataObject;
 import com.oracle.graal.python.builtins.objects.itertools.PZipLongest;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.IsTypeNode;
@@ -512,8 +513,19 @@ public final class ItertoolsModuleBuiltins extends PythonBuiltins {
                         @Cached PyObjectLookupAttr getAttrNode,
                         @Cached PyCallableCheckNode callableCheckNode,
                         @Cached CallVarargsMethodNode callNode,
+                        @Cached InlinedConditionProfile isTeeProfile,
                         @Cached InlinedBranchProfile notCallableProfile) {
             Object it = iterNode.execute(frame, iterable, PNone.NO_VALUE);
+            if (isTeeProfile.profile(inliningTarget, it instanceof PTee)) {
+                // tee objects cannot be subclassed, so the copies can be created directly
+                PTee tee = (PTee) it;
+                Object[] tupleObjs = new Object[n];
+                tupleObjs[0] = tee;
+                for (int i = 1; i < n; i++) {
+                    tupleObjs[i] = factory().createTee(tee.getDataobj(), tee.getIndex());
+                }
+                return factory().createTuple(tupleObjs);
+            }
             Object copyCallable = getAttrNode.execute(frame, it, T___COPY__);
             if (!callableCheckNode.execute(copyCallable)) {
                 notCallableProfile.enter(inliningTarget);
@@ -33,7 +33,6 @@ import static com.oracle.graal.python.nodes.StringLiterals.T_VERSION;
 import static com.oracle.graal.python.nodes.truffle.TruffleStringMigrationHelpers.isJavaString;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -75,8 +74,11 @@ import com.oracle.graal.python.builtins.objects.complex.PComplex;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.floats.PFloat;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
+import com.oracle.graal.python.builtins.objects.module.PythonFrozenModule.FrozenCode;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.str.StringInternTable;
 import com.oracle.graal.python.builtins.objects.str.StringNodes;
 import com.oracle.graal.python.builtins.objects.str.StringNodesFactory.IsInternedStringNodeGen;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
@@ -110,6 +112,7 @@ import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NeverDefault;
@@ -118,6 +121,8 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.memory.ByteArraySupport;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.InternalByteArray;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleString.Encoding;
@@ -224,9 +229,18 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         @Specialization
         Object doit(VirtualFrame frame, Object buffer,
-                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib) {
+                        @Bind("this") Node inliningTarget,
+                        @Cached InlinedConditionProfile isSliceProfile,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary underlyingBufferLib) {
             try {
-                return Marshal.load(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
+                int length = bufferLib.getBufferLength(buffer);
+                if (isSliceProfile.profile(inliningTarget, isSliceOfByteArray(buffer, underlyingBufferLib))) {
+                    // read a memoryview slice in place instead of copying it
+                    PMemoryView view = (PMemoryView) buffer;
+                    return Marshal.load(underlyingBufferLib.getInternalByteArray(view.getBuffer()), view.getOffset(), length);
+                }
+                return Marshal.load(bufferLib.getInternalOrCopiedByteArray(buffer), length);
             } catch (NumberFormatException e) {
                 throw raise(ValueError, ErrorMessages.BAD_MARSHAL_DATA_S, e.getMessage());
             } catch (Marshal.MarshalError me) {
@@ -236,6 +250,14 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             }
         }
 
+        static boolean isSliceOfByteArray(Object buffer, PythonBufferAccessLibrary underlyingBufferLib) {
+            if (buffer instanceof PMemoryView) {
+                PMemoryView view = (PMemoryView) buffer;
+                return view.getOffset() != 0 && view.isCContiguous() && view.getBuffer() != null && underlyingBufferLib.hasInternalByteArray(view.getBuffer());
+            }
+            return false;
+        }
+
         @Override
         protected ArgumentClinicProvider getArgumentClinic() {
             return MarshalModuleBuiltinsClinicProviders.LoadsNodeClinicProviderGen.INSTANCE;
@@ -294,7 +316,6 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         // CPython enforces 15bits per digit when reading/writing large integers for portability
         private static final int MARSHAL_SHIFT = 15;
-        private static final BigInteger MARSHAL_BASE = BigInteger.valueOf(1 << MARSHAL_SHIFT);
 
         private static final int BYTES_PER_LONG = Long.SIZE / Byte.SIZE;
         private static final int BYTES_PER_INT = Integer.SIZE / Byte.SIZE;
@@ -337,7 +358,12 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         @TruffleBoundary
         static Object load(byte[] ary, int length) throws NumberFormatException, MarshalError {
-            Marshal inMarshal = new Marshal(ary, length);
+            return load(ary, 0, length);
+        }
+
+        @TruffleBoundary
+        static Object load(byte[] ary, int offset, int length) throws NumberFormatException, MarshalError {
+            Marshal inMarshal = new Marshal(ary, offset, length);
             Object result = inMarshal.readObject();
             if (result == null) {
                 throw new MarshalError(PythonBuiltinClassType.TypeError, ErrorMessages.BAD_MARSHAL_DATA_NULL);
@@ -345,6 +371,26 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             return result;
         }
 
+        /**
+         * Reads a marshalled code object without creating a {@link PCode}. The contained code unit
+         * is deserialized eagerly, so the result does not depend on any context.
+         */
+        @TruffleBoundary
+        static FrozenCode loadFrozenCode(byte[] ary, int length) throws NumberFormatException, MarshalError {
+            Marshal inMarshal = new Marshal(ary, length);
+            int type = inMarshal.readByte() & ~FLAG_REF;
+            if (type != TYPE_GRAALPYTHON_CODE) {
+                throw new MarshalError(ValueError, ErrorMessages.BAD_MARSHAL_DATA);
+            }
+            TruffleString fileName = inMarshal.readString();
+            int flags = inMarshal.readInt();
+            byte[] codeString = inMarshal.readBytes();
+            int firstLineNo = inMarshal.readInt();
+            byte[] lnoTab = inMarshal.readBytes();
+            CodeUnit codeUnit = new Marshal(codeString, codeString.length).readCodeUnit();
+            return new FrozenCode(fileName, flags, codeUnit, firstLineNo, lnoTab);
+        }
+
         @TruffleBoundary
         static Object loadFile(Object file) throws NumberFormatException, MarshalError {
             Marshal inMarshal = new Marshal(file);
@@ -408,6 +454,13 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         final ArrayList<Object> refList;
         final ByteArrayOutputStream out;
         final InputStream in;
+        /*
+         * When reading from memory, we read directly from the array instead of going through an
+         * input stream. In that case, in is null and dataPos is the next position to read.
+         */
+        final byte[] data;
+        final int dataEnd;
+        int dataPos;
         final int version;
         final PInt pyTrue;
         final PInt pyFalse;
@@ -423,11 +476,20 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             this.out = new ByteArrayOutputStream();
             this.refMap = new HashMap<>();
             this.in = null;
+            this.data = null;
+            this.dataEnd = 0;
             this.refList = null;
         }
 
         Marshal(byte[] in, int length) {
-            this.in = new ByteArrayInputStream(in, 0, length);
+            this(in, 0, length);
+        }
+
+        Marshal(byte[] in, int offset, int length) {
+            this.in = null;
+            this.data = in;
+            this.dataPos = offset;
+            this.dataEnd = offset + length;
             this.refList = new ArrayList<>();
             this.version = -1;
             this.pyTrue = null;
@@ -438,6 +500,8 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         Marshal(Object in) {
             this.in = new FileLikeInputStream(in);
+            this.data = null;
+            this.dataEnd = 0;
             this.refList = new ArrayList<>();
             this.version = -1;
             this.pyTrue = null;
@@ -450,7 +514,23 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             out.write(v);
         }
 
+        /**
+         * Reserves {@code n} bytes of the in-memory data and returns the position of the first. A
+         * negative {@code n} is treated like truncated data instead of moving the position back.
+         */
+        private int advance(int n) {
+            int pos = dataPos;
+            if (n < 0 || n > dataEnd - pos) {
+                throw new MarshalError(PythonBuiltinClassType.EOFError, ErrorMessages.BAD_MARSHAL_DATA_EOF);
+            }
+            dataPos = pos + n;
+            return pos;
+        }
+
         private int readByte() {
+            if (data != null) {
+                return data[advance(1)] & 0xff;
+            }
             int nextByte;
             try {
                 nextByte = in.read();
@@ -502,6 +582,10 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             if (sz == 0) {
                 return output;
             }
+            if (data != null) {
+                PythonUtils.arraycopy(data, advance(sz), output, 0, sz);
+                return output;
+            }
             int read;
             try {
                 read = in.read(output, 0, sz);
@@ -532,10 +616,16 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private int readInt() {
+            if (data != null) {
+                return baSupport.getInt(data, advance(BYTES_PER_INT));
+            }
             return baSupport.getInt(readNBytes(BYTES_PER_INT), 0);
         }
 
         private short readShort() {
+            if (data != null) {
+                return baSupport.getShort(data, advance(BYTES_PER_SHORT));
+            }
             return baSupport.getShort(readNBytes(BYTES_PER_SHORT), 0);
         }
 
@@ -546,26 +636,29 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private long readLong() {
+            if (data != null) {
+                return baSupport.getLong(data, advance(BYTES_PER_LONG));
+            }
             return baSupport.getLong(readNBytes(BYTES_PER_LONG), 0);
         }
 
         private void writeBigInteger(BigInteger v) {
             // for compatibility with cpython, we store the number in base 2**15
-            BigInteger[] divRem;
-            ArrayList<Integer> digits = new ArrayList<>();
-            BigInteger quotient = v.abs();
-            do {
-                divRem = quotient.divideAndRemainder(MARSHAL_BASE);
-                quotient = divRem[0];
-                digits.add(divRem[1].intValue());
-            } while (quotient.signum() != 0);
-            int sz = digits.size();
+            BigInteger abs = v.abs();
+            int sz = Math.max(1, (abs.bitLength() + MARSHAL_SHIFT - 1) / MARSHAL_SHIFT);
             if (v.signum() < 0) {
                 writeSize(-sz);
             } else {
                 writeSize(sz);
             }
-            for (int digit : digits) {
+            for (int d = 0; d < sz; d++) {
+                // extract the bits directly instead of repeatedly dividing by the base
+                int digit = 0;
+                for (int bit = 0; bit < MARSHAL_SHIFT; bit++) {
+                    if (abs.testBit(d * MARSHAL_SHIFT + bit)) {
+                        digit |= 1 << bit;
+                    }
+                }
                 for (int i = 0; i < Short.SIZE; i += Byte.SIZE) {
                     out.write((digit >> i) & 0xff);
                 }
@@ -583,21 +676,30 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             }
 
             // size is in shorts
-            sz *= 2;
-
-            byte[] data = readNBytes(sz);
-
-            int i = 0;
-            int digit = baSupport.getShort(data, i);
-            i += 2;
-            BigInteger result = BigInteger.valueOf(digit);
-
-            while (i < sz) {
-                int power = i / 2;
-                digit = baSupport.getShort(data, i);
-                i += 2;
-                result = result.add(BigInteger.valueOf(digit).multiply(MARSHAL_BASE.pow(power)));
+            byte[] digits = readNBytes(sz * 2);
+
+            // pack the 15-bit digits into a big-endian magnitude and build the result in one step
+            byte[] mag = new byte[(sz * MARSHAL_SHIFT + Byte.SIZE - 1) / Byte.SIZE];
+            int pos = mag.length;
+            int acc = 0;
+            int accBits = 0;
+            for (int i = 0; i < sz; i++) {
+                int digit = baSupport.getShort(digits, i * 2);
+                if (digit < 0) {
+                    throw new MarshalError(ValueError, ErrorMessages.BAD_MARSHAL_DATA_S, "digit out of range in long");
+                }
+                acc |= digit << accBits;
+                accBits += MARSHAL_SHIFT;
+                while (accBits >= Byte.SIZE) {
+                    mag[--pos] = (byte) acc;
+                    acc >>>= Byte.SIZE;
+                    accBits -= Byte.SIZE;
+                }
             }
+            if (accBits > 0) {
+                mag[--pos] = (byte) acc;
+            }
+            BigInteger result = new BigInteger(1, mag);
             if (negative) {
                 return result.negate();
             } else {
@@ -1008,11 +1110,16 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                     HashingStorage store = PDict.createNewStorage(0);
                     PDict dict = factory.createDict(store);
                     addRef.run(dict);
+                    // slow-path context lookup, unmarshalling runs uncached anyway
+                    StringInternTable internTable = PythonContext.get(null).getStringInternTable();
                     while (true) {
                         Object key = readObject();
                         if (key == null) {
                             break;
                         }
+                        if (key instanceof TruffleString) {
+                            key = internTable.dedup((TruffleString) key);
+                        }
                         Object value = readObject();
                         if (value != null) {
                             store = HashingStorageSetItem.executeUncached(store, key, value);
@@ -1076,7 +1183,18 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                 encoding = Encoding.UTF_32LE;
                 sz = readSize();
             }
-            return TruffleString.fromByteArrayUncached(readNBytes(sz), 0, sz, encoding, true).switchEncodingUncached(TS_ENCODING);
+            return readTruffleString(sz, encoding);
+        }
+
+        private TruffleString readTruffleString(int sz, Encoding encoding) {
+            TruffleString value;
+            if (data != null) {
+                // copy straight from the input, no need for an intermediate buffer
+                value = TruffleString.fromByteArrayUncached(data, advance(sz), sz, encoding, true);
+            } else {
+                value = TruffleString.fromByteArrayUncached(readNBytes(sz), 0, sz, encoding, true);
+            }
+            return value.switchEncodingUncached(TS_ENCODING);
         }
 
         private void writeShortString(String v) throws IOException {
@@ -1087,14 +1205,11 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private TruffleString readShortString() {
-            int sz = readByteSize();
-            byte[] bytes = readNBytes(sz);
-            return TruffleString.fromByteArrayUncached(bytes, 0, sz, Encoding.ISO_8859_1, true).switchEncodingUncached(TS_ENCODING);
+            return readTruffleString(readByteSize(), Encoding.ISO_8859_1);
         }
 
         private Object readAscii(long sz, boolean intern) {
-            byte[] bytes = readNBytes((int) sz);
-            TruffleString value = TruffleString.fromByteArrayUncached(bytes, 0, (int) sz, Encoding.US_ASCII, true).switchEncodingUncached(TS_ENCODING);
+            TruffleString value = readTruffleString((int) sz, Encoding.US_ASCII);
             if (intern) {
                 return StringNodes.InternStringNode.getUncached().execute(value);
             } else {
@@ -1302,11 +1417,7 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
             int codeLen = readSize();
             byte[] codeString = new byte[codeLen + Long.BYTES];
-            try {
-                in.read(codeString, 0, codeLen);
-            } catch (IOException e) {
-                throw CompilerDirectives.shouldNotReachHere();
-            }
+            readNBytes(codeLen, codeString);
             // get a new ID every time we deserialize the same filename in the same context. We use
             // slow-path context lookup, since this code is likely dominated by the deserialization
             // time
@@ -1331,6 +1442,16 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Deserializes the code of a frozen module. Invalid data is reported with a {@code MarshalError}
+     * or {@link NumberFormatException}, which callers turn into the frozen module's
+     * {@code ImportError}.
+     */
+    @TruffleBoundary
+    public static FrozenCode deserializeFrozenCode(byte[] bytes) {
+        return Marshal.loadFrozenCode(bytes, bytes.length);
+    }
+
     @TruffleBoundary
     public static CodeUnit deserializeCodeUnit(byte[] bytes) {
         try {
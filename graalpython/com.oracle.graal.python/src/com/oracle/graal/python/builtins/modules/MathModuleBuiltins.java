@@ -1021,28 +1021,72 @@ public class MathModuleBuiltins extends PythonBuiltins {
 
         abstract Object execute(VirtualFrame frame, Object a, Object b);
 
-        private long count(long a, long b) {
+        /**
+         * Binary GCD of the absolute values. The arguments and the result are treated as unsigned,
+         * so that {@code Long.MIN_VALUE} stands for 2^63.
+         */
+        private static long binaryGcd(long x, long y) {
+            long a = Math.abs(x);
+            long b = Math.abs(y);
+            if (a == 0) {
+                return b;
+            }
             if (b == 0) {
                 return a;
             }
-            return count(b, a % b);
+            int shift = Long.numberOfTrailingZeros(a | b);
+            a >>>= Long.numberOfTrailingZeros(a);
+            while (b != 0) {
+                b >>>= Long.numberOfTrailingZeros(b);
+                if (Long.compareUnsigned(a, b) > 0) {
+                    long t = a;
+                    a = b;
+                    b = t;
+                }
+                b -= a;
+            }
+            return a << shift;
         }
 
-        @Specialization
-        long gcd(long x, long y) {
-            return Math.abs(count(x, y));
+        @Specialization(rewriteOn = OverflowException.class)
+        static long gcdLong(long x, long y) throws OverflowException {
+            long result = binaryGcd(x, y);
+            if (result < 0) {
+                // 2^63
+                throw OverflowException.INSTANCE;
+            }
+            return result;
+        }
+
+        @Specialization(replaces = "gcdLong")
+        static Object gcdLongOvf(long x, long y,
+                        @Shared("factory") @Cached PythonObjectFactory factory) {
+            long result = binaryGcd(x, y);
+            if (result < 0) {
+                return factory.createInt(op(PInt.longToBigInteger(x), PInt.longToBigInteger(y)));
+            }
+            return result;
         }
 
         @Specialization
-        PInt gcd(long x, PInt y,
+        static Object gcd(long x, PInt y,
                         @Shared("factory") @Cached PythonObjectFactory factory) {
-            return factory.createInt(op(PInt.longToBigInteger(x), y.getValue()));
+            if (x == 0 || x == Long.MIN_VALUE) {
+                return factory.createInt(op(PInt.longToBigInteger(x), y.getValue()));
+            }
+            // gcd(x, y) == gcd(x, y mod x), which avoids the big integer gcd altogether
+            return binaryGcd(x, remainder(y.getValue(), Math.abs(x)));
         }
 
         @Specialization
-        PInt gcd(PInt x, long y,
+        static Object gcd(PInt x, long y,
                         @Shared("factory") @Cached PythonObjectFactory factory) {
-            return factory.createInt(op(x.getValue(), PInt.longToBigInteger(y)));
+            return gcd(y, x, factory);
+        }
+
+        @TruffleBoundary
+        private static long remainder(BigInteger x, long y) {
+            return x.mod(BigInteger.valueOf(y)).longValue();
         }
 
         @TruffleBoundary
@@ -122,6 +122,8 @@ public class WeakRefModuleBuiltins extends PythonBuiltins {
 
         @Override
         public boolean proceed() {
+            // drop processed references so they can be collected while a large batch is running
+            references[index] = null;
             index++;
             return index < references.length;
         }
@@ -158,15 +160,19 @@ public class WeakRefModuleBuiltins extends PythonBuiltins {
             } else {
                 reference = weakRefQueue.poll();
             }
-            ArrayList<PReferenceType.WeakRefStorage> refs = new ArrayList<>();
-            do {
-                if (reference instanceof PReferenceType.WeakRefStorage) {
-                    refs.add((PReferenceType.WeakRefStorage) reference);
+            /*
+             * Drain everything that is currently enqueued so that all callbacks triggered by one
+             * collection are dispatched as a single async action.
+             */
+            ArrayList<WeakRefStorage> refs = new ArrayList<>();
+            while (reference != null) {
+                if (reference instanceof WeakRefStorage storage && storage.getCallback() != null) {
+                    refs.add(storage);
                 }
                 reference = weakRefQueue.poll();
-            } while (reference != null);
+            }
             if (!refs.isEmpty()) {
-                return new WeakrefCallbackAction(refs.toArray(new PReferenceType.WeakRefStorage[0]));
+                return new WeakrefCallbackAction(refs.toArray(new WeakRefStorage[refs.size()]));
             }
             return null;
         });
@@ -717,7 +717,7 @@ public final class PythonCextBuiltins {
 
         @Override
         Object execute(CApiBuiltinExecutable self, Object[] arguments) {
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(self.timing);
             try {
                 try {
                     if (LOGGER.isLoggable(Level.FINEST)) {
@@ -757,7 +757,7 @@ public final class PythonCextBuiltins {
                     throw CompilerDirectives.shouldNotReachHere("return type while handling PException: " + cachedSelf.getRetDescriptor() + " in " + self.name);
                 }
             } finally {
-                CApiTiming.exit(self.timing);
+                CApiTiming.exit(self.timing, timingStart);
             }
         }
 
@@ -333,14 +333,15 @@ public final class CSVReaderBuiltins extends PythonBuiltins {
             }
         }
 
-        private static void parseSaveField(CSVReader self, PList fields, TruffleStringBuilder.ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
+        private void parseSaveField(CSVReader self, PList fields, TruffleStringBuilder.ToStringNode toStringNode, PyNumberFloatNode pyNumberFloatNode, AppendNode appendNode) {
             TruffleString field = toStringNode.execute(self.field);
             self.field = TruffleStringBuilder.create(TS_ENCODING);
             if (self.numericField) {
                 self.numericField = false;
                 appendNode.execute(fields, pyNumberFloatNode.execute(field));
             } else {
-                appendNode.execute(fields, field);
+                // headers and categorical values repeat in every row, share short ones
+                appendNode.execute(fields, getContext().getStringInternTable().dedup(field));
             }
         }
 
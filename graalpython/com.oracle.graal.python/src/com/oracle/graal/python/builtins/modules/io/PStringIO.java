@@ -60,9 +60,19 @@ public final class PStringIO extends PTextIOBase {
      * Invariant: buf == null iff sb != null
      */
 
+    /*
+     * In both states, cachedString (if not null) holds the first cachedLength code points of the
+     * contents. Writes behind that prefix keep it, so getvalue() after appending only copies the
+     * new part and concatenates it lazily. After MAX_LAZY_CONCATS such concatenations, the whole
+     * contents are copied once to keep the resulting string shallow.
+     */
+    private static final int MAX_LAZY_CONCATS = 64;
+
     private boolean closed;
 
     private TruffleString cachedString;
+    private int cachedLength;
+    private int lazyConcats;
     private TruffleStringBuilder buf;
     private TruffleStringBuilder sb;
     private int pos;
@@ -77,13 +87,27 @@ public final class PStringIO extends PTextIOBase {
         return buf;
     }
 
+    /**
+     * Replaces the buffer. The caller must {@link #invalidateBufCache(int) invalidate} the parts of
+     * the cached value that changed.
+     */
     public void setBuf(TruffleStringBuilder buf) {
         this.buf = buf;
-        cachedString = null;
     }
 
-    public void invalidateBufCache() {
+    /**
+     * Notifies about a modification of the contents starting at code point index {@code from}.
+     */
+    public void invalidateBufCache(int from) {
+        if (from < cachedLength) {
+            cachedString = null;
+            cachedLength = 0;
+        }
+    }
+
+    private void clearBufCache() {
         cachedString = null;
+        cachedLength = 0;
     }
 
     public int getPos() {
@@ -118,8 +142,8 @@ public final class PStringIO extends PTextIOBase {
         if (!isAccumulating()) {
             return;
         }
+        // the contents stay the same, so the cached value remains valid
         buf = sb;
-        cachedString = null;
         sb = null;
     }
 
@@ -130,7 +154,7 @@ public final class PStringIO extends PTextIOBase {
     public void setAccumulating() {
         assert stringSize == 0 && !isAccumulating();
         sb = TruffleStringBuilder.create(TS_ENCODING);
-        cachedString = null;
+        clearBufCache();
     }
 
     public void append(TruffleString str, TruffleStringBuilder.AppendStringNode appendStringNode) {
@@ -141,11 +165,7 @@ public final class PStringIO extends PTextIOBase {
     public void setRealized() {
         sb = null;
         buf = TruffleStringBuilder.create(TS_ENCODING);
-    }
-
-    public TruffleString makeIntermediate(TruffleStringBuilder.ToStringNode toStringNode) {
-        assert isAccumulating();
-        return toStringNode.execute(sb);
+        clearBufCache();
     }
 
     @Override
@@ -153,28 +173,48 @@ public final class PStringIO extends PTextIOBase {
         super.clearAll();
         buf = TruffleStringBuilder.create(TS_ENCODING);
         sb = null;
-        cachedString = null;
+        clearBufCache();
         setWriteNewline(null);
     }
 
+    /**
+     * Returns the whole contents in either state.
+     */
     @GenerateInline
     @GenerateCached(false)
-    abstract static class PStringIOBufToStringNode extends Node {
+    abstract static class PStringIOGetValueNode extends Node {
         abstract TruffleString execute(Node inliningTarget, PStringIO self);
 
-        static boolean hasCache(PStringIO s) {
-            return s.cachedString != null;
+        static boolean isCacheValid(PStringIO s) {
+            return s.cachedString != null && s.cachedLength == s.stringSize;
         }
 
-        @Specialization(guards = "hasCache(self)")
-        TruffleString doCached(PStringIO self) {
+        @Specialization(guards = "isCacheValid(self)")
+        static TruffleString doCached(PStringIO self) {
             return self.cachedString;
         }
 
-        @Specialization(guards = "!hasCache(self)")
-        TruffleString doUncached(PStringIO self,
-                        @Cached(inline = false) TruffleStringBuilder.ToStringNode toStringNode) {
-            self.cachedString = toStringNode.execute(self.getBuf());
+        @Specialization(guards = "!isCacheValid(self)")
+        static TruffleString doUpdate(PStringIO self,
+                        @Cached(inline = false) TruffleStringBuilder.ToStringNode toStringNode,
+                        @Cached(inline = false) TruffleString.SubstringNode substringNode,
+                        @Cached(inline = false) TruffleString.ConcatNode concatNode) {
+            TruffleStringBuilder builder = self.isAccumulating() ? self.sb : self.buf;
+            if (self.cachedString == null || self.cachedLength == 0 || self.lazyConcats >= MAX_LAZY_CONCATS) {
+                self.cachedString = toStringNode.execute(builder);
+                self.lazyConcats = 0;
+            } else {
+                /*
+                 * The lazy string shares the builder's buffer, which later writes modify. Only the
+                 * appended range is kept, and since it is a proper part of the contents (the cached
+                 * prefix is not empty), the non-lazy substring always copies it.
+                 */
+                TruffleString lazyBuf = toStringNode.execute(builder, true);
+                TruffleString tail = substringNode.execute(lazyBuf, self.cachedLength, self.stringSize - self.cachedLength, TS_ENCODING, false);
+                self.cachedString = concatNode.execute(self.cachedString, tail, TS_ENCODING, true);
+                self.lazyConcats++;
+            }
+            self.cachedLength = self.stringSize;
             return self.cachedString;
         }
     }
@@ -92,7 +92,7 @@ import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
-import com.oracle.graal.python.builtins.modules.io.PStringIO.PStringIOBufToStringNode;
+import com.oracle.graal.python.builtins.modules.io.PStringIO.PStringIOGetValueNode;
 import com.oracle.graal.python.builtins.modules.io.TextIOWrapperNodes.FindLineEndingNode;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageAddAllToOther;
@@ -214,7 +214,7 @@ public final class StringIOBuiltins extends PythonBuiltins {
         }
 
         TruffleStringBuilder sb = self.getBuf();
-        self.invalidateBufCache();
+        self.invalidateBufCache(Math.min(self.getPos(), self.getStringSize()));
         if (self.getPos() > self.getStringSize()) {
             /*
              * In case of overseek, pad with null bytes the buffer region between the end of stream
@@ -346,6 +346,8 @@ public final class StringIOBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"self.isOK()", "!self.isClosed()"})
         static TruffleString read(PStringIO self, int len,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PStringIOGetValueNode getValueNode,
                         @Cached TruffleString.SubstringNode substringNode,
                         @Cached TruffleStringBuilder.ToStringNode toStringNode) {
             int size = len;
@@ -364,7 +366,7 @@ public final class StringIOBuiltins extends PythonBuiltins {
 
             if (self.isAccumulating() && self.getPos() == 0 && size == n) {
                 self.setPos(self.getStringSize());
-                return self.makeIntermediate(toStringNode);
+                return getValueNode.execute(inliningTarget, self);
             }
 
             self.realize();
@@ -453,6 +455,7 @@ public final class StringIOBuiltins extends PythonBuiltins {
             TruffleStringBuilder newBuf = TruffleStringBuilder.create(TS_ENCODING, size);
             appendStringNode.execute(newBuf, substringNode.execute(currentBuf, 0, size, TS_ENCODING, true));
             self.setBuf(newBuf);
+            self.invalidateBufCache(size);
             self.setStringsize(size);
             return size;
         }
@@ -590,17 +593,11 @@ public final class StringIOBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetValueNode extends ClosedCheckPythonUnaryBuiltinNode {
 
-        @Specialization(guards = {"self.isOK()", "!self.isClosed()", "self.isAccumulating()"})
-        static Object copy(PStringIO self,
-                        @Cached TruffleStringBuilder.ToStringNode toStringNode) {
-            return self.makeIntermediate(toStringNode);
-        }
-
-        @Specialization(guards = {"self.isOK()", "!self.isClosed()", "!self.isAccumulating()"})
+        @Specialization(guards = {"self.isOK()", "!self.isClosed()"})
         static Object doit(PStringIO self,
                         @Bind("this") Node inliningTarget,
-                        @Cached PStringIOBufToStringNode bufToStringNode) {
-            return bufToStringNode.execute(inliningTarget, self);
+                        @Cached PStringIOGetValueNode getValueNode) {
+            return getValueNode.execute(inliningTarget, self);
         }
     }
 
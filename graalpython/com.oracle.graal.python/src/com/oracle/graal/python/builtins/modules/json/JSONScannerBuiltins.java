@@ -26,6 +26,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.Hashi
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.exception.PBaseException;
 import com.oracle.graal.python.builtins.objects.floats.FloatUtils;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.PyFloatCheckExactNode;
 import com.oracle.graal.python.lib.PyLongCheckExactNode;
@@ -106,10 +107,22 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                 dictInstanceShape = PythonLanguage.get(this).getBuiltinTypeInstanceShape(PythonBuiltinClassType.PDict);
             }
             IntRef nextIdx = new IntRef();
-            Object result = scanOnceUnicode(self, toJavaStringNode.execute(string), idx, nextIdx);
+            Object result;
+            try {
+                result = scanOnceUnicode(self, toJavaStringNode.execute(string), idx, nextIdx);
+            } finally {
+                // like CPython, keys are only memoized within one document, repeated keys across
+                // documents are shared through the context's string intern table
+                clearMemo(self);
+            }
             return factory.createTuple(new Object[]{result, nextIdx.value});
         }
 
+        @TruffleBoundary
+        private static void clearMemo(PJSONScanner scanner) {
+            scanner.memo.clear();
+        }
+
         @TruffleBoundary
         private Object parseObjectUnicode(PJSONScanner scanner, String string, int start, IntRef nextIdx) {
             /*
@@ -144,9 +157,10 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_PROP_NAME_ECLOSED_IN_DBL_QUOTES);
                     }
                     TruffleString newKey = scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, this);
-                    TruffleString key = scanner.memo.putIfAbsent(newKey, newKey);
+                    TruffleString key = scanner.memo.get(newKey);
                     if (key == null) {
-                        key = newKey;
+                        key = getContext().getStringInternTable().dedup(newKey);
+                        scanner.memo.put(key, key);
                     }
                     idx = nextIdx.value;
 
@@ -353,7 +367,7 @@ public class JSONScannerBuiltins extends PythonBuiltins {
                         return rval;
                     }
                     String numStr = string.substring(start, idx);
-                    BigInteger bi = new BigInteger(numStr);
+                    BigInteger bi = PInt.parseDecimal(numStr);
                     try {
                         return bi.intValueExact();
                     } catch (ArithmeticException e) {
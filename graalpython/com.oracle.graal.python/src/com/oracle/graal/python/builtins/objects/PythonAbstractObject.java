@@ -60,6 +60,7 @@ import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
+import java.nio.ByteOrder;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -68,7 +69,10 @@ import java.util.HashSet;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.objects.array.PArray;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiGuards;
 import com.oracle.graal.python.builtins.objects.cext.capi.DynamicObjectNativeWrapper;
 import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage;
@@ -83,7 +87,9 @@ import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.memoryview.PMemoryView;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.mmap.PMMap;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.ObjectNodes;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
@@ -147,6 +153,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.interop.ArityException;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.InvalidBufferOffsetException;
 import com.oracle.truffle.api.interop.StopIterationException;
 import com.oracle.truffle.api.interop.TruffleObject;
 import com.oracle.truffle.api.interop.UnknownIdentifierException;
@@ -1467,6 +1474,225 @@ public abstract class PythonAbstractObject extends DynamicObject implements Truf
         }
     }
 
+    /**
+     * Whether the buffer of this object is exposed to interop. Only the builtin buffer types that
+     * can be accessed without acquiring a buffer via the C API do that, i.e. {@code bytes},
+     * {@code bytearray}, {@code array}, C-contiguous {@code memoryview} and {@code mmap}.
+     */
+    private boolean isInteropBuffer() {
+        if (this instanceof PBytesLike || this instanceof PArray) {
+            return true;
+        } else if (this instanceof PMemoryView) {
+            PMemoryView mv = (PMemoryView) this;
+            return !mv.isReleased() && mv.isCContiguous();
+        } else if (this instanceof PMMap) {
+            return !((PMMap) this).isClosed();
+        }
+        return false;
+    }
+
+    private int checkInteropBufferAccess(PythonBufferAccessLibrary bufferLib, long byteOffset, int length) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        if (!isInteropBuffer()) {
+            throw UnsupportedMessageException.create();
+        }
+        if (byteOffset < 0 || byteOffset > bufferLib.getBufferLength(this) - length) {
+            throw InvalidBufferOffsetException.create(byteOffset, length);
+        }
+        return (int) byteOffset;
+    }
+
+    private int checkInteropBufferWrite(PythonBufferAccessLibrary bufferLib, long byteOffset, int length) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        int offset = checkInteropBufferAccess(bufferLib, byteOffset, length);
+        if (bufferLib.isReadonly(this)) {
+            throw UnsupportedMessageException.create();
+        }
+        return offset;
+    }
+
+    @ExportMessage
+    public boolean hasBufferElements(
+                    @Exclusive @Cached GilNode gil) {
+        boolean mustRelease = gil.acquire();
+        try {
+            return isInteropBuffer();
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public boolean isBufferWritable(
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (!isInteropBuffer()) {
+                throw UnsupportedMessageException.create();
+            }
+            return !bufferLib.isReadonly(this);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public long getBufferSize(
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (!isInteropBuffer()) {
+                throw UnsupportedMessageException.create();
+            }
+            return bufferLib.getBufferLength(this);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void readBuffer(long byteOffset, byte[] destination, int destinationOffset, int length,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkInteropBufferAccess(bufferLib, byteOffset, length);
+            bufferLib.readIntoByteArray(this, offset, destination, destinationOffset, length);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public byte readBufferByte(long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            return bufferLib.readByte(this, checkInteropBufferAccess(bufferLib, byteOffset, Byte.BYTES));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferByte(long byteOffset, byte value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            bufferLib.writeByte(this, checkInteropBufferWrite(bufferLib, byteOffset, Byte.BYTES), value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public short readBufferShort(ByteOrder order, long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            short value = bufferLib.readShort(this, checkInteropBufferAccess(bufferLib, byteOffset, Short.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Short.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferShort(ByteOrder order, long byteOffset, short value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkInteropBufferWrite(bufferLib, byteOffset, Short.BYTES);
+            bufferLib.writeShort(this, offset, order == ByteOrder.nativeOrder() ? value : Short.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public int readBufferInt(ByteOrder order, long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            int value = bufferLib.readInt(this, checkInteropBufferAccess(bufferLib, byteOffset, Integer.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Integer.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferInt(ByteOrder order, long byteOffset, int value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkInteropBufferWrite(bufferLib, byteOffset, Integer.BYTES);
+            bufferLib.writeInt(this, offset, order == ByteOrder.nativeOrder() ? value : Integer.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public long readBufferLong(ByteOrder order, long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            long value = bufferLib.readLong(this, checkInteropBufferAccess(bufferLib, byteOffset, Long.BYTES));
+            return order == ByteOrder.nativeOrder() ? value : Long.reverseBytes(value);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public void writeBufferLong(ByteOrder order, long byteOffset, long value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        boolean mustRelease = gil.acquire();
+        try {
+            int offset = checkInteropBufferWrite(bufferLib, byteOffset, Long.BYTES);
+            bufferLib.writeLong(this, offset, order == ByteOrder.nativeOrder() ? value : Long.reverseBytes(value));
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public float readBufferFloat(ByteOrder order, long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        return Float.intBitsToFloat(readBufferInt(order, byteOffset, bufferLib, gil));
+    }
+
+    @ExportMessage
+    public void writeBufferFloat(ByteOrder order, long byteOffset, float value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        writeBufferInt(order, byteOffset, Float.floatToRawIntBits(value), bufferLib, gil);
+    }
+
+    @ExportMessage
+    public double readBufferDouble(ByteOrder order, long byteOffset,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        return Double.longBitsToDouble(readBufferLong(order, byteOffset, bufferLib, gil));
+    }
+
+    @ExportMessage
+    public void writeBufferDouble(ByteOrder order, long byteOffset, double value,
+                    @Shared("bufferLib") @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                    @Exclusive @Cached GilNode gil) throws UnsupportedMessageException, InvalidBufferOffsetException {
+        writeBufferLong(order, byteOffset, Double.doubleToRawLongBits(value), bufferLib, gil);
+    }
+
     @ExportMessage
     public boolean hasLanguage() {
         return true;
@@ -749,7 +749,7 @@ public abstract class ExternalFunctionNodes {
             // it to the context since we cannot propagate it through the native frames.
             Object state = IndirectCallContext.enter(frame, threadState, this);
 
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 Object result;
                 if (!lib.isExecutable(callable)) {
@@ -779,7 +779,7 @@ public abstract class ExternalFunctionNodes {
                 CompilerDirectives.transferToInterpreterAndInvalidate();
                 throw ensureRaiseNode().raise(PythonBuiltinClassType.TypeError, ErrorMessages.CALLING_NATIVE_FUNC_EXPECTED_ARGS, name, e.getExpectedMinArity(), e.getActualArity());
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 /*
                  * Always re-acquire the GIL here. This is necessary because it could happen that C
                  * extensions are releasing the GIL and if then an LLVM exception occurs, C code
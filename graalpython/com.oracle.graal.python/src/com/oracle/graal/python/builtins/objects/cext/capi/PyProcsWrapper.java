@@ -48,7 +48,11 @@ import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.TransformExc
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTiming;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions.NativeToPythonNode;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions.PythonToNativeNewRefNode;
+import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
+import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.method.PMethod;
 import com.oracle.graal.python.lib.PyNumberAsSizeNode;
 import com.oracle.graal.python.lib.PyNumberIndexNode;
 import com.oracle.graal.python.lib.PyObjectSizeNode;
@@ -86,7 +90,30 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
 
     public PyProcsWrapper(Object delegate) {
         super(delegate);
-        this.timing = CApiTiming.create(false, delegate);
+        this.timing = CApiTiming.create(false, getTimingName(delegate));
+    }
+
+    /**
+     * Calls are recorded per wrapper kind and qualified name of the wrapped function, never per
+     * delegate object, so that the number of timing entries does not grow with every wrapper.
+     */
+    @TruffleBoundary
+    private String getTimingName(Object delegate) {
+        Object function = delegate;
+        if (function instanceof PMethod method) {
+            function = method.getFunction();
+        } else if (function instanceof PBuiltinMethod method) {
+            function = method.getFunction();
+        }
+        String name;
+        if (function instanceof PFunction f) {
+            name = f.getQualname().toJavaStringUncached();
+        } else if (function instanceof PBuiltinFunction f) {
+            name = f.getQualname().toJavaStringUncached();
+        } else {
+            name = function == null ? "null" : function.getClass().getSimpleName();
+        }
+        return getClass().getSimpleName() + " " + name;
     }
 
     @ExportMessage
@@ -149,7 +176,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 2) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -164,7 +191,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(gil).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -190,7 +217,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 2) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -205,7 +232,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(gil).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -231,7 +258,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 /*
                  * Accept a second argumenthere, since these functions are sometimes called using
@@ -250,7 +277,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(gil).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -275,7 +302,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 1) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -290,7 +317,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return -1;
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -316,7 +343,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arityProfile.profile(arguments.length != 3)) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -332,7 +359,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return -1;
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -362,7 +389,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                             @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                             @Exclusive @Cached GilNode gil) {
                 boolean mustRelease = gil.acquire();
-                CApiTiming.enter();
+                long timingStart = CApiTiming.enter(self.timing);
                 try {
                     try {
                         // convert args
@@ -382,7 +409,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                     transformExceptionToNativeNode.execute(null, e);
                     return -1;
                 } finally {
-                    CApiTiming.exit(self.timing);
+                    CApiTiming.exit(self.timing, timingStart);
                     gil.release(mustRelease);
                 }
             }
@@ -419,7 +446,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                             @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                             @Exclusive @Cached GilNode gil) {
                 boolean mustRelease = gil.acquire();
-                CApiTiming.enter();
+                long timingStart = CApiTiming.enter(self.timing);
                 try {
                     try {
                         // convert args
@@ -436,7 +463,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                     transformExceptionToNativeNode.execute(null, e);
                     return PythonContext.get(gil).getNativeNull().getPtr();
                 } finally {
-                    CApiTiming.exit(self.timing);
+                    CApiTiming.exit(self.timing, timingStart);
                     gil.release(mustRelease);
                 }
             }
@@ -474,7 +501,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                             @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                             @Exclusive @Cached GilNode gil) {
                 boolean mustRelease = gil.acquire();
-                CApiTiming.enter();
+                long timingStart = CApiTiming.enter(self.timing);
                 try {
                     try {
                         // convert args
@@ -493,7 +520,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                     transformExceptionToNativeNode.execute(null, e);
                     return PythonContext.get(gil).getNativeNull().getPtr();
                 } finally {
-                    CApiTiming.exit(self.timing);
+                    CApiTiming.exit(self.timing, timingStart);
                     gil.release(mustRelease);
                 }
             }
@@ -531,7 +558,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                             @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                             @Exclusive @Cached GilNode gil) {
                 boolean mustRelease = gil.acquire();
-                CApiTiming.enter();
+                long timingStart = CApiTiming.enter(self.timing);
                 try {
                     try {
                         // convert args
@@ -551,7 +578,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                     transformExceptionToNativeNode.execute(null, e);
                     return PythonContext.get(gil).getNativeNull().getPtr();
                 } finally {
-                    CApiTiming.exit(self.timing);
+                    CApiTiming.exit(self.timing, timingStart);
                     gil.release(mustRelease);
                 }
             }
@@ -584,7 +611,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 3) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -605,7 +632,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(gil).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -631,7 +658,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 2) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -648,7 +675,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(toJavaNode).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -677,7 +704,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached PRaiseNode raiseNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 if (arguments.length != 1) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
@@ -694,7 +721,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(toJavaNode).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -719,7 +746,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                         @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                         @Exclusive @Cached GilNode gil) throws ArityException {
             boolean mustRelease = gil.acquire();
-            CApiTiming.enter();
+            long timingStart = CApiTiming.enter(timing);
             try {
                 /*
                  * Accept a second argumenthere, since these functions are sometimes called using
@@ -738,7 +765,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                 transformExceptionToNativeNode.execute(null, e);
                 return PythonContext.get(gil).getNativeNull().getPtr();
             } finally {
-                CApiTiming.exit(timing);
+                CApiTiming.exit(timing, timingStart);
                 gil.release(mustRelease);
             }
         }
@@ -767,7 +794,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                             @Cached TransformExceptionToNativeNode transformExceptionToNativeNode,
                             @Exclusive @Cached GilNode gil) {
                 boolean mustRelease = gil.acquire();
-                CApiTiming.enter();
+                long timingStart = CApiTiming.enter(self.timing);
                 try {
                     try {
                         // convert args
@@ -784,7 +811,7 @@ public abstract class PyProcsWrapper extends PythonNativeWrapper {
                     transformExceptionToNativeNode.execute(null, e);
                     return PythonContext.get(gil).getNativeNull().getPtr();
                 } finally {
-                    CApiTiming.exit(self.timing);
+                    CApiTiming.exit(self.timing, timingStart);
                     gil.release(mustRelease);
                 }
             }
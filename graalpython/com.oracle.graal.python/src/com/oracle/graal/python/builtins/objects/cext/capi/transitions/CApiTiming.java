@@ -44,12 +44,34 @@ import static java.util.stream.Collectors.summingLong;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Stream;
 
 import org.graalvm.nativeimage.ImageInfo;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 
+/**
+ * Statistics about C API calls (upcalls and downcalls) and object transitions between managed and
+ * native. A {@link CApiTiming} object identifies one function or transition, the numbers are
+ * recorded per context in a {@link Stats} object. Nothing is recorded unless
+ * {@link PythonOptions#CApiStats} is enabled, which is an engine option so that the checks fold away
+ * in compiled code when it is off. With it, call counts are collected and every
+ * {@link #SAMPLE_INTERVAL}-th call of each function is additionally timed and recorded in a latency
+ * histogram with power-of-two nanosecond buckets. The statistics can be queried from Python with
+ * {@code __graalpython__.capi_stats()}.
+ * <p>
+ * Setting {@code python.CAPITiming} switches to the exact (non-sampling) mode that measures every
+ * call, subtracting time spent in nested calls, and periodically dumps a summary to stdout.
+ * </p>
+ */
 public final class CApiTiming {
 
     /**
@@ -57,6 +79,26 @@ public final class CApiTiming {
      */
     private static final int PROFILE_CALL_INTERVAL = Integer.getInteger("python.CAPITiming", 0);
 
+    /**
+     * Every n-th call is timed for the latency histogram (rounded down to a power of two). Set this
+     * property to zero to only count calls.
+     */
+    private static final int SAMPLE_INTERVAL = Integer.getInteger("python.CAPIStatsSampleInterval", 1024);
+    private static final boolean SAMPLING = SAMPLE_INTERVAL > 0;
+    private static final long SAMPLE_MASK = SAMPLING ? Integer.highestOneBit(SAMPLE_INTERVAL) - 1 : 0;
+
+    /**
+     * Number of histogram buckets, bucket {@code i} counts samples in the range {@code [2^i, 2^(i+1))}
+     * nanoseconds. The last bucket also includes all longer samples.
+     */
+    public static final int HISTOGRAM_BUCKETS = 40;
+
+    /**
+     * Maximum number of distinct names that are recorded separately. Once it is reached, further
+     * names are recorded in one shared entry per direction.
+     */
+    private static final int MAX_TIMINGS = 1024;
+
     private static final int INITIAL_STACK = 100;
     /**
      * Include results until at least this fraction of total time is included.
@@ -74,23 +116,146 @@ public final class CApiTiming {
     }
 
     private static final ThreadLocal<TimingStack> STACK = ThreadLocal.withInitial(TimingStack::new);
-    private static final ArrayList<CApiTiming> TIMINGS = new ArrayList<>();
+
+    /** All timing objects by name, guarded by itself. */
+    private static final LinkedHashMap<String, CApiTiming> TIMINGS = new LinkedHashMap<>();
+    private static final CApiTiming[] TIMINGS_BY_ID = new CApiTiming[MAX_TIMINGS];
+    private static final CApiTiming OTHERS_FROM_JAVA = create(true, "<others>");
+    private static final CApiTiming OTHERS_TO_JAVA = create(false, "<others>");
+
+    /** Stats of all live contexts, only registered in the exact mode for the periodic dump. */
+    private static final Set<Stats> ALL_STATS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
     private final String name;
     private final boolean fromJava;
-    private long time;
-    private long count;
+    private final int id;
 
-    private CApiTiming(boolean fromJava, String name) {
+    private CApiTiming(boolean fromJava, String name, int id) {
         this.fromJava = fromJava;
         this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * The numbers recorded for all timing objects in one context. Counts are updated atomically,
+     * the rarely recorded samples under the lock of this object.
+     */
+    public static final class Stats {
+        private final AtomicLongArray counts = new AtomicLongArray(MAX_TIMINGS);
+        private final long[] times = new long[MAX_TIMINGS];
+        private final long[] samples = new long[MAX_TIMINGS];
+        private final long[] sampledTimes = new long[MAX_TIMINGS];
+        private final long[][] histograms = new long[MAX_TIMINGS][];
+
+        public Stats() {
+            if (PROFILE_CALL_INTERVAL != 0) {
+                ALL_STATS.add(this);
+            }
+        }
+    }
+
+    /**
+     * The numbers of one timing object in one context.
+     */
+    public static final class Entry {
+        private final CApiTiming timing;
+        private final long count;
+        private final long time;
+        private final long samples;
+        private final long sampledTime;
+        private final long[] histogram;
+
+        private Entry(CApiTiming timing, long count, long time, long samples, long sampledTime, long[] histogram) {
+            this.timing = timing;
+            this.count = count;
+            this.time = time;
+            this.samples = samples;
+            this.sampledTime = sampledTime;
+            this.histogram = histogram;
+        }
+
+        public String getName() {
+            return timing.name;
+        }
+
+        public boolean isFromJava() {
+            return timing.fromJava;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public long getSampledTime() {
+            return sampledTime;
+        }
+
+        public long[] getHistogram() {
+            return histogram;
+        }
+    }
+
+    /**
+     * Returns the timing object for the given name. Objects are shared by name so that repeatedly
+     * created wrappers for the same function do not accumulate, callers must therefore pass a name
+     * that does not depend on object identity.
+     */
+    @TruffleBoundary
+    public static CApiTiming create(boolean fromJava, Object name) {
+        String key = name + (fromJava ? " J->N" : " N->J");
+        synchronized (TIMINGS) {
+            CApiTiming timing = TIMINGS.get(key);
+            if (timing == null) {
+                int id = TIMINGS.size();
+                if (id >= MAX_TIMINGS) {
+                    return fromJava ? OTHERS_FROM_JAVA : OTHERS_TO_JAVA;
+                }
+                timing = new CApiTiming(fromJava, key, id);
+                TIMINGS.put(key, timing);
+                TIMINGS_BY_ID[id] = timing;
+            }
+            return timing;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the numbers of all timing objects that recorded at least one call in
+     * the given context.
+     */
+    @TruffleBoundary
+    public static ArrayList<Entry> getEntries(Stats stats) {
+        ArrayList<Entry> result = new ArrayList<>();
+        int size;
         synchronized (TIMINGS) {
-            TIMINGS.add(this);
+            size = TIMINGS.size();
         }
+        synchronized (stats) {
+            for (int id = 0; id < size; id++) {
+                long count = stats.counts.get(id);
+                if (count != 0) {
+                    long[] histogram = stats.histograms[id] != null ? stats.histograms[id].clone() : new long[HISTOGRAM_BUCKETS];
+                    result.add(new Entry(TIMINGS_BY_ID[id], count, stats.times[id], stats.samples[id], stats.sampledTimes[id], histogram));
+                }
+            }
+        }
+        return result;
     }
 
-    public static CApiTiming create(boolean fromJava, Object delegate) {
-        return PROFILE_CALL_INTERVAL == 0 ? null : new CApiTiming(fromJava, delegate + (fromJava ? " J->N" : " N->J"));
+    @TruffleBoundary
+    public static void reset(Stats stats) {
+        synchronized (stats) {
+            for (int id = 0; id < MAX_TIMINGS; id++) {
+                stats.counts.set(id, 0);
+            }
+            Arrays.fill(stats.times, 0);
+            Arrays.fill(stats.samples, 0);
+            Arrays.fill(stats.sampledTimes, 0);
+            Arrays.fill(stats.histograms, null);
+        }
     }
 
     static {
@@ -104,9 +269,7 @@ public final class CApiTiming {
                         } catch (InterruptedException e) {
                             // continue
                         }
-                        synchronized (TIMINGS) {
-                            dumpCallStatistics();
-                        }
+                        dumpCallStatistics();
                     }
                 }
 
@@ -123,8 +286,18 @@ public final class CApiTiming {
     }
 
     private static void dumpCallStatistics() {
-        ArrayList<CApiTiming> sorted = new ArrayList<>(TIMINGS);
-        sorted.sort((a, b) -> Boolean.compare(a.fromJava, b.fromJava) * 100 + a.name.compareTo(b.name));
+        Stats[] allStats;
+        synchronized (ALL_STATS) {
+            allStats = ALL_STATS.toArray(new Stats[0]);
+        }
+        for (Stats stats : allStats) {
+            dumpCallStatistics(stats);
+        }
+    }
+
+    private static void dumpCallStatistics(Stats stats) {
+        ArrayList<Entry> sorted = getEntries(stats);
+        sorted.sort((a, b) -> Boolean.compare(a.timing.fromJava, b.timing.fromJava) * 100 + a.timing.name.compareTo(b.timing.name));
         System.out.println("======================================================================");
         System.out.printf("%70s  %8s %10s\n", "Name:", "Count:", "Time:");
         long totalCount = sorted.stream().collect(summingLong(e -> e.count));
@@ -136,7 +309,7 @@ public final class CApiTiming {
         long visibleTime = 0;
         for (var e : sorted) {
             if (e.time >= cutoffTime || e.count >= cutoffCount) {
-                System.out.printf("%70s  %8s %8sms %s\n", e.name, e.count, e.time / 1000000, stars(percent, e.time));
+                System.out.printf("%70s  %8s %8sms %s\n", e.timing.name, e.count, e.time / 1000000, stars(percent, e.time));
                 visibleCount += e.count;
                 visibleTime += e.time;
             }
@@ -171,15 +344,62 @@ public final class CApiTiming {
         return String.format("%2d", value) + "% " + STARS.substring(0, value);
     }
 
-    public static void enter() {
+    /**
+     * Returns the numbers of the current context, or {@code null} if C API statistics are disabled.
+     */
+    private static Stats getStats() {
+        if (PROFILE_CALL_INTERVAL == 0 && !PythonLanguage.get(null).getEngineOption(PythonOptions.CApiStats)) {
+            return null;
+        }
+        return PythonContext.get(null).getCApiStats();
+    }
+
+    /**
+     * Counts a call of the given function. Returns the start time if this call should be sampled,
+     * zero otherwise. The result must be passed to the matching {@link #exit(CApiTiming, long)}.
+     */
+    public static long enter(CApiTiming t) {
         if (PROFILE_CALL_INTERVAL != 0) {
             enterInternal();
+            return 0;
         }
+        Stats stats = getStats();
+        if (stats != null && (stats.counts.getAndIncrement(t.id) & SAMPLE_MASK) == 0 && SAMPLING) {
+            return System.nanoTime();
+        }
+        return 0;
     }
 
-    public static void exit(CApiTiming t) {
+    public static void exit(CApiTiming t, long start) {
         if (PROFILE_CALL_INTERVAL != 0) {
-            exitInternal(t);
+            exitInternal(getStats(), t);
+        } else if (start != 0) {
+            recordSample(getStats(), t, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts an event that is not timed, e.g., an object transition.
+     */
+    public static void count(CApiTiming t) {
+        Stats stats = getStats();
+        if (stats != null) {
+            stats.counts.incrementAndGet(t.id);
+        }
+    }
+
+    @TruffleBoundary
+    private static void recordSample(Stats stats, CApiTiming t, long delta) {
+        synchronized (stats) {
+            stats.samples[t.id]++;
+            stats.sampledTimes[t.id] += delta;
+            long[] histogram = stats.histograms[t.id];
+            if (histogram == null) {
+                histogram = new long[HISTOGRAM_BUCKETS];
+                stats.histograms[t.id] = histogram;
+            }
+            int bucket = 63 - Long.numberOfLeadingZeros(Math.max(delta, 1));
+            histogram[Math.min(bucket, HISTOGRAM_BUCKETS - 1)]++;
         }
     }
 
@@ -197,14 +417,17 @@ public final class CApiTiming {
     }
 
     @TruffleBoundary
-    private static void exitInternal(CApiTiming t) {
+    private static void exitInternal(Stats stats, CApiTiming t) {
         TimingStack stack = STACK.get();
         long startTime = stack.startTimes[--stack.sp];
         long delta = System.nanoTime() - startTime;
-        t.time += delta - stack.subTimes[stack.sp];
+        synchronized (stats) {
+            stats.times[t.id] += delta - stack.subTimes[stack.sp];
+        }
         if (stack.sp > 0) {
             stack.subTimes[stack.sp - 1] += delta;
         }
-        t.count++;
+        stats.counts.incrementAndGet(t.id);
+        recordSample(stats, t, delta);
     }
 }
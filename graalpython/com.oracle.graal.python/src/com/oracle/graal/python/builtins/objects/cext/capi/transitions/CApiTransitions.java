@@ -652,6 +652,8 @@ public class CApiTransitions {
     @ImportStatic(CApiGuards.class)
     public abstract static class PythonToNativeNode extends CExtToNativeNode {
 
+        private static final CApiTiming TIMING = CApiTiming.create(true, "PythonToNativeNode");
+
         @TruffleBoundary
         public static Object executeUncached(Object obj) {
             return PythonToNativeNodeGen.getUncached().execute(obj);
@@ -687,6 +689,7 @@ public class CApiTransitions {
         @Specialization(guards = "isOther(obj)")
         Object doOther(Object obj,
                         @Cached GetNativeWrapperNode getWrapper) {
+            CApiTiming.count(TIMING);
             pollReferenceQueue();
             PythonNativeWrapper wrapper = getWrapper.execute(obj);
             if (needsTransfer()) {
@@ -750,6 +753,8 @@ public class CApiTransitions {
     @ImportStatic(CApiGuards.class)
     public abstract static class NativeToPythonNode extends CExtToJavaNode {
 
+        private static final CApiTiming TIMING = CApiTiming.create(false, "NativeToPythonNode");
+
         public abstract Object execute(PythonNativeWrapper object);
 
         @TruffleBoundary
@@ -765,6 +770,7 @@ public class CApiTransitions {
         static Object doWrapper(PythonNativeWrapper value,
                         @Bind("$node") Node inliningTarget,
                         @Shared("primitive") @Cached InlinedConditionProfile isPrimitiveProfile) {
+            CApiTiming.count(TIMING);
             return handleWrapper(inliningTarget, isPrimitiveProfile, false, value);
         }
 
@@ -784,6 +790,7 @@ public class CApiTransitions {
             assert !(value instanceof PythonAbstractObject);
             assert !(value instanceof Number);
             assert !(value instanceof PythonAbstractNativeObject);
+            CApiTiming.count(TIMING);
 
             // this is just a shortcut
             if (isNullProfile.profile(inliningTarget, interopLibrary.isNull(value))) {
@@ -102,6 +102,14 @@ public class HashingStorageNodes {
             HashingStorage s = wrapper.getDictStorage();
             return !(s instanceof EconomicMapStorage && ((EconomicMapStorage) s).map.hasSideEffect());
         }
+
+        /**
+         * If both storages contain only int keys, so that the bulk operations of
+         * {@link ObjectHashMap} can be used.
+         */
+        public static boolean haveOnlyLongKeys(EconomicMapStorage a, EconomicMapStorage b) {
+            return a.map.hasOnlyLongKeys() && b.map.hasOnlyLongKeys();
+        }
     }
 
     @GenerateUncached
@@ -1098,10 +1106,15 @@ public class HashingStorageNodes {
     }
 
     @GenerateUncached
-    @ImportStatic({PGuards.class})
+    @ImportStatic({PGuards.class, HashingStorageGuards.class})
     public abstract static class HashingStorageXor extends Node {
         public abstract HashingStorage execute(Frame frame, HashingStorage a, HashingStorage b);
 
+        @Specialization(guards = "haveOnlyLongKeys(aStorage, bStorage)")
+        static HashingStorage doLongKeys(EconomicMapStorage aStorage, EconomicMapStorage bStorage) {
+            return new EconomicMapStorage(ObjectHashMap.xorLongKeys(aStorage.map, bStorage.map), false);
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, HashingStorage aStorage, HashingStorage bStorage,
                         @Bind("this") Node inliningTarget,
@@ -1151,10 +1164,15 @@ public class HashingStorageNodes {
      * In case the key is in both, this keeps the value from {@code b}.
      */
     @GenerateUncached
-    @ImportStatic({PGuards.class})
+    @ImportStatic({PGuards.class, HashingStorageGuards.class})
     public abstract static class HashingStorageIntersect extends Node {
         public abstract HashingStorage execute(Frame frame, HashingStorage a, HashingStorage b);
 
+        @Specialization(guards = "haveOnlyLongKeys(aStorage, bStorage)")
+        static HashingStorage doLongKeys(EconomicMapStorage aStorage, EconomicMapStorage bStorage) {
+            return new EconomicMapStorage(ObjectHashMap.intersectLongKeys(aStorage.map, bStorage.map), false);
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, HashingStorage aStorage, HashingStorage bStorage,
                         @Bind("this") Node inliningTarget,
@@ -1195,10 +1213,15 @@ public class HashingStorageNodes {
      * {@code a-b}
      */
     @GenerateUncached
-    @ImportStatic({PGuards.class})
+    @ImportStatic({PGuards.class, HashingStorageGuards.class})
     public abstract static class HashingStorageDiff extends Node {
         public abstract HashingStorage execute(Frame frame, HashingStorage a, HashingStorage b);
 
+        @Specialization(guards = "haveOnlyLongKeys(aStorage, bStorage)")
+        static HashingStorage doLongKeys(EconomicMapStorage aStorage, EconomicMapStorage bStorage) {
+            return new EconomicMapStorage(ObjectHashMap.diffLongKeys(aStorage.map, bStorage.map), false);
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageForEach forEachA,
@@ -1236,7 +1259,7 @@ public class HashingStorageNodes {
     }
 
     @GenerateUncached
-    @ImportStatic({PGuards.class})
+    @ImportStatic({PGuards.class, HashingStorageGuards.class})
     public abstract static class HashingStorageCompareKeys extends Node {
         public abstract int execute(Frame frame, HashingStorage a, HashingStorage b);
 
@@ -1246,6 +1269,16 @@ public class HashingStorageNodes {
             return 0;
         }
 
+        @Specialization(guards = {"aStorage != bStorage", "haveOnlyLongKeys(aStorage, bStorage)"})
+        static int doLongKeys(EconomicMapStorage aStorage, EconomicMapStorage bStorage) {
+            int aLen = aStorage.length();
+            int bLen = bStorage.length();
+            if (aLen > bLen || ObjectHashMap.anyLongKeyIn(aStorage.map, bStorage.map, false)) {
+                return 1;
+            }
+            return aLen == bLen ? 0 : -1;
+        }
+
         @Specialization(guards = "aStorage != bStorage")
         static int doGeneric(Frame frame, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageLen aLenNode,
@@ -1296,10 +1329,18 @@ public class HashingStorageNodes {
     }
 
     @GenerateUncached
-    @ImportStatic({PGuards.class})
+    @ImportStatic({PGuards.class, HashingStorageGuards.class})
     public abstract static class HashingStorageAreDisjoint extends Node {
         public abstract boolean execute(Frame frame, HashingStorage a, HashingStorage b);
 
+        @Specialization(guards = "haveOnlyLongKeys(aStorage, bStorage)")
+        static boolean doLongKeys(EconomicMapStorage aStorage, EconomicMapStorage bStorage) {
+            if (aStorage.length() > bStorage.length()) {
+                return !ObjectHashMap.anyLongKeyIn(bStorage.map, aStorage.map, true);
+            }
+            return !ObjectHashMap.anyLongKeyIn(aStorage.map, bStorage.map, true);
+        }
+
         @Specialization
         static boolean doGeneric(Frame frame, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageLen aLenNode,
@@ -1357,6 +1398,7 @@ public class HashingStorageNodes {
     }
 
     @GenerateUncached
+    @ImportStatic(HashingStorageGuards.class)
     public abstract static class HashingStorageAddAllToOther extends Node {
         public static HashingStorageAddAllToOther getUncached() {
             return HashingStorageAddAllToOtherNodeGen.getUncached();
@@ -1379,6 +1421,12 @@ public class HashingStorageNodes {
             return dest;
         }
 
+        @Specialization(guards = {"source != dest", "haveOnlyLongKeys(source, dest)"})
+        static HashingStorage doLongKeys(EconomicMapStorage source, EconomicMapStorage dest) {
+            ObjectHashMap.addAllLongKeys(source.map, dest.map);
+            return dest;
+        }
+
         @Specialization(guards = "source != dest")
         static HashingStorage doIt(Frame frame, HashingStorage source, HashingStorage dest,
                         @Cached HashingStorageForEach forEach,
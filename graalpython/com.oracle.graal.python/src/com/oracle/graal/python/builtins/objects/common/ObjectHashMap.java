@@ -44,6 +44,8 @@ import static com.oracle.truffle.api.CompilerDirectives.SLOWPATH_PROBABILITY;
 
 import java.util.Arrays;
 
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
@@ -94,6 +96,19 @@ import com.oracle.truffle.api.profiles.InlinedCountingConditionProfile;
  * implications of this is that for close to full maps, lookups of items that are not present in the
  * map are faster, because we can terminate the collisions chain chasing earlier.
  *
+ * Maps whose keys are all Python ints with {@code hash(key) == key} (which holds for all ints
+ * except {@code -1} and those outside of {@code ±(2^61 - 1)}) do not store the keys at all. In this
+ * mode, the keysAndValues array holds just the values and the keys are reconstructed from the
+ * hashes array. The first insertion of any other key switches the map to the generic layout. Note
+ * that lookups with keys of other types (e.g., {@code 1.0} or {@code True}) work in either mode,
+ * because we still compare them using {@code __eq__}.
+ *
+ * Similarly, maps whose values are all {@code None} (sets, {@code dict.fromkeys}) do not store the
+ * values. Removed entries are then marked by clearing the key or, if the keys are not stored
+ * either, by a special hash value that no int key can have. A set of ints is thus represented just
+ * by the sparse indices and the hashes arrays. There are also bulk set operations for maps with
+ * int keys that work directly on the hashes arrays.
+ *
  * Notable use case that does not (yet) work well with this approach: repeated insertion and removal
  * of the same key. This keeps on adding dummy entries when removing the entry and creating long
  * collisions chains that the insertion needs to follow to find a free slot. This all repeats until
@@ -111,11 +126,6 @@ import com.oracle.truffle.api.profiles.InlinedCountingConditionProfile;
  * reused when inserting new items. This will help with the insert/remove of the same key
  * scenario.</li>
  * <li>Inline {@link ObjectHashMap} into {@code EconomicMapStorage} to save an indirection.</li>
- * <li>New strategy for long keys where the hashes array is used to store the keys, and the
- * keysAndValues array will store just values. Can be implemented by extending this class and
- * overriding few methods.</li>
- * <li>Flag that indicates that the hash-map is used as a storage for a set, so all values are
- * {@code None} and there is no need to allocate space for values in the keysAndValues array.</li>
  * </ul>
  */
 public final class ObjectHashMap {
@@ -143,6 +153,12 @@ public final class ObjectHashMap {
     private static final int DUMMY_INDEX = -2;
     private static final int EMPTY_INDEX = -1;
 
+    /**
+     * Marks removed entries in the hashes array if neither keys nor values are stored. No int key
+     * can have this hash, see {@link #isLongKey(Object, long)}.
+     */
+    private static final long REMOVED_LONG_KEY = Long.MIN_VALUE;
+
     private static void markCollision(int[] indices, int compactIndex) {
         assert indices[compactIndex] != EMPTY_INDEX;
         indices[compactIndex] = indices[compactIndex] | COLLISION_MASK;
@@ -172,8 +188,14 @@ public final class ObjectHashMap {
 
     // Compact arrays with the actual dict items:
     long[] hashes;
+    // Keys and values interleaved, or just the keys or values if longKeys or noneValues is set
     Object[] keysAndValues;
 
+    // All keys are ints equal to their hash, so they are not stored in keysAndValues
+    private boolean longKeys = true;
+    // All values are None, so they are not stored in keysAndValues
+    private boolean noneValues = true;
+
     // How many real items are in the dict
     int size;
     // How many of the slots in the hashes/keysAndValues arrays are occupied either with real item
@@ -236,7 +258,16 @@ public final class ObjectHashMap {
         int quarter = newSize >> 2;
         int usableSize = 3 * quarter + 2;
         hashes = new long[usableSize];
-        keysAndValues = new Object[usableSize * 2];
+        keysAndValues = allocateKeysAndValues(usableSize, longKeys, noneValues);
+    }
+
+    private static Object[] allocateKeysAndValues(int usableSize, boolean longKeys, boolean noneValues) {
+        if (longKeys && noneValues) {
+            return PythonUtils.EMPTY_OBJECT_ARRAY;
+        } else if (longKeys || noneValues) {
+            return new Object[usableSize];
+        }
+        return new Object[usableSize * 2];
     }
 
     public void setSideEffectingKeysFlag() {
@@ -247,6 +278,8 @@ public final class ObjectHashMap {
         size = 0;
         usedHashes = 0;
         usedIndices = 0;
+        longKeys = true;
+        noneValues = true;
         allocateData(INITIAL_INDICES_SIZE);
     }
 
@@ -259,6 +292,8 @@ public final class ObjectHashMap {
         result.indices = PythonUtils.arrayCopyOf(indices, indices.length);
         result.keysAndValues = PythonUtils.arrayCopyOf(keysAndValues, keysAndValues.length);
         result.hasSideEffectingKeys = hasSideEffectingKeys;
+        result.longKeys = longKeys;
+        result.noneValues = noneValues;
         return result;
     }
 
@@ -567,6 +602,10 @@ public final class ObjectHashMap {
     }
 
     private void putInNewSlot(int[] localIndices, Object key, long keyHash, Object value, int compactIndex) {
+        boolean isLongKey = isLongKey(key, keyHash);
+        if (CompilerDirectives.injectBranchProbability(SLOWPATH_PROBABILITY, (longKeys && !isLongKey) || (noneValues && value != PNone.NONE))) {
+            changeLayout(longKeys && isLongKey, noneValues && value == PNone.NONE);
+        }
         size++;
         usedIndices++;
         int newIndex = usedHashes++;
@@ -687,6 +726,135 @@ public final class ObjectHashMap {
         }
     }
 
+    /**
+     * Whether all keys are ints that are equal to their hash. Such keys can be compared by their
+     * hashes alone, which the bulk operations below rely on.
+     */
+    public boolean hasOnlyLongKeys() {
+        return longKeys;
+    }
+
+    /**
+     * Returns the index of the given key in the compact arrays or {@code -1}. Follows the same
+     * collision chain as {@link GetNode}, but since all keys are ints, it only compares hashes.
+     */
+    private int findLongKey(long key) {
+        assert longKeys;
+        int[] localIndices = indices;
+        int indicesLen = localIndices.length;
+        int compactIndex = getIndex(indicesLen, key);
+        long perturb = key;
+        int searchLimit = getBucketsCount(localIndices) + PERTURB_SHIFTS_COUT;
+        for (int i = 0; i <= searchLimit; i++) {
+            int index = localIndices[compactIndex];
+            if (index == EMPTY_INDEX) {
+                return -1;
+            }
+            if (index != DUMMY_INDEX) {
+                int unwrappedIndex = unwrapIndex(index);
+                if (hashes[unwrappedIndex] == key) {
+                    return unwrappedIndex;
+                } else if (!isCollision(index)) {
+                    return -1;
+                }
+            }
+            perturb >>>= PERTURB_SHIFT;
+            compactIndex = nextIndex(indicesLen, compactIndex, perturb);
+        }
+        throw CompilerDirectives.shouldNotReachHere();
+    }
+
+    private void putLongKey(long key, Object value) {
+        int index = findLongKey(key);
+        if (index >= 0) {
+            setValue(index, value);
+        } else if (needsResize(indices)) {
+            rehashAndPut(boxLongKey(key), key, value);
+        } else {
+            insertNewKey(indices, boxLongKey(key), key, value);
+        }
+    }
+
+    /**
+     * Adds all items of {@code source} to {@code dest}. Both maps must have only int keys.
+     */
+    @TruffleBoundary
+    public static void addAllLongKeys(ObjectHashMap source, ObjectHashMap dest) {
+        assert source.longKeys && dest.longKeys;
+        for (int i = 0; i < source.usedHashes; i++) {
+            Object value = source.getValue(i);
+            if (value != null) {
+                dest.putLongKey(source.hashes[i], value);
+            }
+        }
+    }
+
+    /**
+     * Items of {@code a} whose keys are in {@code b}, with the values from {@code b}. Both maps must
+     * have only int keys.
+     */
+    @TruffleBoundary
+    public static ObjectHashMap intersectLongKeys(ObjectHashMap a, ObjectHashMap b) {
+        assert a.longKeys && b.longKeys;
+        ObjectHashMap result = new ObjectHashMap();
+        for (int i = 0; i < a.usedHashes; i++) {
+            if (a.getValue(i) != null) {
+                int otherIndex = b.findLongKey(a.hashes[i]);
+                if (otherIndex >= 0) {
+                    result.putLongKey(a.hashes[i], b.getValue(otherIndex));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items of {@code a} whose keys are not in {@code b}. Both maps must have only int keys.
+     */
+    @TruffleBoundary
+    public static ObjectHashMap diffLongKeys(ObjectHashMap a, ObjectHashMap b) {
+        assert a.longKeys && b.longKeys;
+        ObjectHashMap result = new ObjectHashMap();
+        addMissingLongKeys(a, b, result);
+        return result;
+    }
+
+    /**
+     * Items whose keys are in exactly one of the maps. Both maps must have only int keys.
+     */
+    @TruffleBoundary
+    public static ObjectHashMap xorLongKeys(ObjectHashMap a, ObjectHashMap b) {
+        assert a.longKeys && b.longKeys;
+        ObjectHashMap result = new ObjectHashMap();
+        addMissingLongKeys(a, b, result);
+        addMissingLongKeys(b, a, result);
+        return result;
+    }
+
+    private static void addMissingLongKeys(ObjectHashMap a, ObjectHashMap b, ObjectHashMap result) {
+        for (int i = 0; i < a.usedHashes; i++) {
+            Object value = a.getValue(i);
+            if (value != null && b.findLongKey(a.hashes[i]) < 0) {
+                result.putLongKey(a.hashes[i], value);
+            }
+        }
+    }
+
+    /**
+     * Whether some key of {@code a} is (or is not, if {@code present} is {@code false}) in
+     * {@code b}. Both maps must have only int keys.
+     */
+    @TruffleBoundary
+    public static boolean anyLongKeyIn(ObjectHashMap a, ObjectHashMap b, boolean present) {
+        assert a.longKeys && b.longKeys;
+        for (int i = 0; i < a.usedHashes; i++) {
+            if (a.getValue(i) != null && (b.findLongKey(a.hashes[i]) >= 0) == present) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static final class RestartLookupException extends Exception {
         private static final long serialVersionUID = -5517471989238569331L;
         private static final RestartLookupException INSTANCE = new RestartLookupException();
@@ -707,6 +875,19 @@ public final class ObjectHashMap {
         if (hashes[index] != keyHash) {
             return false;
         }
+        if (longKeys) {
+            if (isLongKey(key, keyHash)) {
+                // both keys are ints equal to the same hash
+                return true;
+            }
+            // a key of another type with the same hash, e.g., 1.0 or True
+            boolean result = eqNode.execute(frame, getKey(index), key);
+            if (!longKeys || indices != originalIndices || hashes[index] != keyHash || getValue(index) == null) {
+                // the same situations as below, plus the switch to the generic layout
+                throw RestartLookupException.INSTANCE;
+            }
+            return result;
+        }
         Object originalKey = getKey(index);
         if (originalKey == key) {
             return true;
@@ -751,6 +932,8 @@ public final class ObjectHashMap {
         }
         long[] oldHashes = hashes;
         Object[] oldKeysAndValues = keysAndValues;
+        boolean oldLongKeys = longKeys;
+        boolean oldNoneValues = noneValues;
         int oldUsedSize = usedHashes;
         int oldSize = size;
         allocateData(indicesCapacity);
@@ -759,9 +942,10 @@ public final class ObjectHashMap {
         usedIndices = 0;
         int[] localIndices = this.indices;
         for (int i = 0; i < oldUsedSize; i++) {
-            if (getValue(i, oldKeysAndValues) != null) {
-                final Object key = getKey(i, oldKeysAndValues);
-                insertNewKey(localIndices, key, oldHashes[i], getValue(i, oldKeysAndValues));
+            Object value = getValue(i, oldHashes, oldKeysAndValues, oldLongKeys, oldNoneValues);
+            if (value != null) {
+                final Object key = getKey(i, oldHashes, oldKeysAndValues, oldLongKeys, oldNoneValues);
+                insertNewKey(localIndices, key, oldHashes[i], value);
             }
         }
         assert size == oldSize : String.format("size=%d, oldSize=%d, oldUsedSize=%d, usedHashes=%d, usedIndices=%d",
@@ -782,12 +966,14 @@ public final class ObjectHashMap {
                 dummyCount++;
             } else if (currentShuffle > 0) {
                 assert getValue(i - currentShuffle) == null;
-                assert getKey(i - currentShuffle) == null;
+                assert longKeys || getKey(i - currentShuffle) == null;
+                // the hash must be moved first, it may be the key and clearing the value may
+                // overwrite it
+                hashes[i - currentShuffle] = hashes[i];
                 setValue(i - currentShuffle, value);
                 setKey(i - currentShuffle, getKey(i));
                 setValue(i, null);
                 setKey(i, null);
-                hashes[i - currentShuffle] = hashes[i];
                 shuffle[i] = currentShuffle;
             }
         }
@@ -821,28 +1007,93 @@ public final class ObjectHashMap {
         return (int) (hash & (indicesLen - 1));
     }
 
-    public static Object getKey(int index, Object[] keysAndValues) {
-        return keysAndValues[index << 1];
+    private static boolean isLongKey(Object key, long keyHash) {
+        if (key instanceof Integer) {
+            return (int) key == keyHash;
+        } else if (key instanceof Long) {
+            return (long) key == keyHash;
+        }
+        return false;
     }
 
-    public static Object getValue(int index, Object[] keysAndValues) {
-        return keysAndValues[(index << 1) + 1];
+    private static Object getKey(int index, long[] hashes, Object[] keysAndValues, boolean longKeys, boolean noneValues) {
+        if (longKeys) {
+            return boxLongKey(hashes[index]);
+        }
+        return keysAndValues[noneValues ? index : index << 1];
+    }
+
+    private static Object getValue(int index, long[] hashes, Object[] keysAndValues, boolean longKeys, boolean noneValues) {
+        if (noneValues) {
+            boolean removed = longKeys ? hashes[index] == REMOVED_LONG_KEY : keysAndValues[index] == null;
+            return removed ? null : PNone.NONE;
+        }
+        return keysAndValues[longKeys ? index : (index << 1) + 1];
+    }
+
+    private static Object boxLongKey(long key) {
+        if (PInt.isIntRange(key)) {
+            return (int) key;
+        }
+        return key;
     }
 
     public Object getKey(int index) {
-        return getKey(index, keysAndValues);
+        return getKey(index, hashes, keysAndValues, longKeys, noneValues);
     }
 
     public Object getValue(int index) {
-        return getValue(index, keysAndValues);
+        return getValue(index, hashes, keysAndValues, longKeys, noneValues);
     }
 
     public void setValue(int index, Object value) {
-        keysAndValues[(index << 1) + 1] = value;
+        if (noneValues) {
+            if (value == null) {
+                // removing the entry
+                if (longKeys) {
+                    hashes[index] = REMOVED_LONG_KEY;
+                } else {
+                    keysAndValues[index] = null;
+                }
+                return;
+            } else if (value == PNone.NONE) {
+                return;
+            }
+            changeLayout(longKeys, false);
+        }
+        keysAndValues[longKeys ? index : (index << 1) + 1] = value;
     }
 
     public void setKey(int index, Object key) {
-        keysAndValues[(index << 1)] = key;
+        if (longKeys) {
+            // the key is the hash, which is maintained by the callers
+            return;
+        }
+        keysAndValues[noneValues ? index : index << 1] = key;
+    }
+
+    /**
+     * Starts storing the keys and/or values in the keysAndValues array, so that keys of any type
+     * and/or values other than {@code None} can be inserted.
+     */
+    @TruffleBoundary
+    private void changeLayout(boolean newLongKeys, boolean newNoneValues) {
+        assert (longKeys || !newLongKeys) && (noneValues || !newNoneValues);
+        Object[] newKeysAndValues = allocateKeysAndValues(hashes.length, newLongKeys, newNoneValues);
+        for (int i = 0; i < usedHashes; i++) {
+            Object value = getValue(i);
+            if (value != null) {
+                if (!newLongKeys) {
+                    newKeysAndValues[newNoneValues ? i : i << 1] = getKey(i);
+                }
+                if (!newNoneValues) {
+                    newKeysAndValues[newLongKeys ? i : (i << 1) + 1] = value;
+                }
+            }
+        }
+        keysAndValues = newKeysAndValues;
+        longKeys = newLongKeys;
+        noneValues = newNoneValues;
     }
 
     private boolean checkInternalState() {
@@ -58,6 +58,7 @@ import java.util.Arrays;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.PCallCapiFunction;
@@ -101,6 +102,8 @@ import com.oracle.graal.python.builtins.objects.iterator.IteratorBuiltins.NextNo
 import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes.BuiltinIteratorLengthHint;
 import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes.GetInternalIteratorSequenceStorage;
 import com.oracle.graal.python.builtins.objects.iterator.PBuiltinIterator;
+import com.oracle.graal.python.builtins.objects.itertools.PIslice;
+import com.oracle.graal.python.builtins.objects.itertools.PRepeat;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.range.RangeNodes.LenOfRangeNode;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
@@ -4106,9 +4109,107 @@ public abstract class SequenceStorageNodes {
                 return profileResult(s, false);
             }
 
-            @Specialization(guards = {"!isBuiltinIterator(iterator)", "len < 0"})
+            public boolean isExactRepeat(Object iterator) {
+                return iterator instanceof PRepeat && ((PRepeat) iterator).getCnt() >= 0 && getClass.execute(iterator) == PythonBuiltinClassType.PRepeat;
+            }
+
+            public boolean isExactIslice(Object iterator) {
+                return iterator instanceof PIslice && getClass.execute(iterator) == PythonBuiltinClassType.PIslice;
+            }
+
+            public SequenceStorage getIsliceSourceStorage(GetInternalIteratorSequenceStorage node, PIslice islice) {
+                if (islice.getCnt() == 0 && isBuiltinIterator(islice.getIterable())) {
+                    return getSequenceStorage(node, (PBuiltinIterator) islice.getIterable());
+                }
+                return null;
+            }
+
+            public boolean isMaterializable(Object iterator, GetInternalIteratorSequenceStorage getIsliceStorageNode) {
+                return isExactRepeat(iterator) || isExactIslice(iterator) && getIsliceSourceStorage(getIsliceStorageNode, (PIslice) iterator) != null;
+            }
+
+            /**
+             * A bounded {@code itertools.repeat} produces its elements directly into a storage of
+             * the element's type.
+             */
+            @Specialization(guards = "isExactRepeat(repeat)")
+            public static SequenceStorage createFromRepeat(PRepeat repeat, @SuppressWarnings("unused") int len,
+                            @Cached PRaiseNode raiseNode) {
+                SequenceStorage result;
+                try {
+                    result = createRepeatedStorage(repeat.getElement(), repeat.getCnt());
+                } catch (OutOfMemoryError e) {
+                    throw raiseNode.raise(MemoryError);
+                }
+                repeat.setCnt(0);
+                return result;
+            }
+
+            private static SequenceStorage createRepeatedStorage(Object element, int count) {
+                if (element instanceof Integer) {
+                    int[] elements = new int[count];
+                    Arrays.fill(elements, (int) element);
+                    return new IntSequenceStorage(elements);
+                } else if (element instanceof Long) {
+                    long[] elements = new long[count];
+                    Arrays.fill(elements, (long) element);
+                    return new LongSequenceStorage(elements);
+                } else if (element instanceof Double) {
+                    double[] elements = new double[count];
+                    Arrays.fill(elements, (double) element);
+                    return new DoubleSequenceStorage(elements);
+                } else if (element instanceof Boolean) {
+                    boolean[] elements = new boolean[count];
+                    Arrays.fill(elements, (boolean) element);
+                    return new BoolSequenceStorage(elements);
+                }
+                Object[] elements = new Object[count];
+                Arrays.fill(elements, element);
+                return new ObjectSequenceStorage(elements);
+            }
+
+            /**
+             * An {@code itertools.islice} over a fresh builtin iterator of a sequence is a slice of
+             * the sequence's storage. The source iterator is left in the same state as if the
+             * islice had been consumed element by element.
+             */
+            @Specialization(guards = {"isExactIslice(islice)", "storage != null"})
+            public static SequenceStorage createFromIslice(PIslice islice, @SuppressWarnings("unused") int len,
+                            @Shared("isliceStorage") @Cached GetInternalIteratorSequenceStorage getIsliceStorageNode,
+                            @Bind("getIsliceSourceStorage(getIsliceStorageNode, islice)") SequenceStorage storage,
+                            @Cached GetItemSliceNode getItemSliceNode) {
+                PBuiltinIterator source = (PBuiltinIterator) islice.getIterable();
+                int storageLength = storage.length();
+                int start = islice.getNext();
+                int stop = islice.getStop();
+                int step = islice.getStep();
+                int end = stop == -1 ? storageLength : Math.min(stop, storageLength);
+                int count = start < end ? (end - start - 1) / step + 1 : 0;
+                SequenceStorage result = getItemSliceNode.execute(storage, count > 0 ? start : 0, count > 0 ? end : 0, step, count);
+                // the last call to '__next__' skips up to 'next' and then either stops at 'stop' or
+                // tries to read one more item from the source
+                long next = start;
+                if (count > 0) {
+                    next = (long) start + (long) count * step;
+                    if (stop != -1 && next > stop) {
+                        next = stop;
+                    }
+                }
+                long consumed = stop == -1 || next < stop ? next + 1 : next;
+                if (consumed > storageLength) {
+                    source.index = storageLength;
+                    source.setExhausted();
+                } else {
+                    source.index = (int) consumed;
+                }
+                islice.setIterable(PNone.NONE);
+                return result;
+            }
+
+            @Specialization(guards = {"!isBuiltinIterator(iterator)", "!isMaterializable(iterator, getIsliceStorageNode)", "len < 0"})
             public SequenceStorage createGenericUnknownLen(VirtualFrame frame, Object iterator, @SuppressWarnings("unused") int len,
                             @Bind("this") Node inliningTarget,
+                            @SuppressWarnings("unused") @Shared("isliceStorage") @Cached GetInternalIteratorSequenceStorage getIsliceStorageNode,
                             @Shared("errProfile") @Cached IsBuiltinObjectProfile errorProfile,
                             @Shared("arrayGrowProfile") @Cached InlinedCountingConditionProfile arrayGrowProfile,
                             @Shared @Cached GetNextNode getNextNode) {
@@ -4116,9 +4217,10 @@ public abstract class SequenceStorageNodes {
                 return profileResult(s, true);
             }
 
-            @Specialization(guards = {"!isBuiltinIterator(iterator)", "len >= 0"})
+            @Specialization(guards = {"!isBuiltinIterator(iterator)", "!isMaterializable(iterator, getIsliceStorageNode)", "len >= 0"})
             public SequenceStorage createGenericKnownLen(VirtualFrame frame, Object iterator, int len,
                             @Bind("this") Node inliningTarget,
+                            @SuppressWarnings("unused") @Shared("isliceStorage") @Cached GetInternalIteratorSequenceStorage getIsliceStorageNode,
                             @Shared("errProfile") @Cached IsBuiltinObjectProfile errorProfile,
                             @Shared("arrayGrowProfile") @Cached InlinedCountingConditionProfile arrayGrowProfile,
                             @Shared @Cached GetNextNode getNextNode) {
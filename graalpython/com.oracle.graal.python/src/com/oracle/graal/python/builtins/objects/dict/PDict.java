@@ -37,6 +37,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageAddAllToOther;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageDelItem;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetIterator;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageLen;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.common.KeywordsStorage;
@@ -46,10 +47,13 @@ import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
 import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
 import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -130,7 +134,7 @@ public class PDict extends PHashingCollection {
     @ExportMessage
     static long getHashSize(PDict self,
                     @Exclusive @Cached GilNode gil,
-                    @Cached HashingStorageLen lenNode) {
+                    @Shared("len") @Cached HashingStorageLen lenNode) {
         boolean mustRelease = gil.acquire();
         try {
             return lenNode.execute(self.getDictStorage());
@@ -236,13 +240,25 @@ public class PDict extends PHashingCollection {
         }
     }
 
+    /*
+     * The iterators of builtin dicts are created directly on the storage instead of looking up and
+     * calling 'items()', 'keys()', or 'values()', which subclasses may override.
+     */
     @ExportMessage
     static Object getHashEntriesIterator(PDict self,
                     @Exclusive @Cached GilNode gil,
+                    @Shared("getClass") @Cached GetClassNode getClassNode,
+                    @Shared("len") @Cached HashingStorageLen lenNode,
+                    @Shared("getStorageIter") @Cached HashingStorageGetIterator getStorageIter,
+                    @Shared("factory") @Cached PythonObjectFactory factory,
                     @Shared("getIter") @Cached PyObjectGetIter getIter,
                     @Shared("callMethod") @Cached PyObjectCallMethodObjArgs callMethod) {
         boolean mustRelease = gil.acquire();
         try {
+            if (PGuards.cannotBeOverridden(self, getClassNode)) {
+                HashingStorage storage = self.getDictStorage();
+                return factory.createDictItemIterator(getStorageIter.execute(storage), storage, lenNode.execute(storage));
+            }
             Object dictItems = callMethod.execute(null, self, T_ITEMS);
             return getIter.execute(null, dictItems);
         } finally {
@@ -253,10 +269,18 @@ public class PDict extends PHashingCollection {
     @ExportMessage
     static Object getHashKeysIterator(PDict self,
                     @Exclusive @Cached GilNode gil,
+                    @Shared("getClass") @Cached GetClassNode getClassNode,
+                    @Shared("len") @Cached HashingStorageLen lenNode,
+                    @Shared("getStorageIter") @Cached HashingStorageGetIterator getStorageIter,
+                    @Shared("factory") @Cached PythonObjectFactory factory,
                     @Shared("getIter") @Cached PyObjectGetIter getIter,
                     @Shared("callMethod") @Cached PyObjectCallMethodObjArgs callMethod) {
         boolean mustRelease = gil.acquire();
         try {
+            if (PGuards.cannotBeOverridden(self, getClassNode)) {
+                HashingStorage storage = self.getDictStorage();
+                return factory.createDictKeyIterator(getStorageIter.execute(storage), storage, lenNode.execute(storage));
+            }
             Object dictKeys = callMethod.execute(null, self, T_KEYS);
             return getIter.execute(null, dictKeys);
         } finally {
@@ -267,10 +291,18 @@ public class PDict extends PHashingCollection {
     @ExportMessage
     static Object getHashValuesIterator(PDict self,
                     @Exclusive @Cached GilNode gil,
+                    @Shared("getClass") @Cached GetClassNode getClassNode,
+                    @Shared("len") @Cached HashingStorageLen lenNode,
+                    @Shared("getStorageIter") @Cached HashingStorageGetIterator getStorageIter,
+                    @Shared("factory") @Cached PythonObjectFactory factory,
                     @Shared("getIter") @Cached PyObjectGetIter getIter,
                     @Shared("callMethod") @Cached PyObjectCallMethodObjArgs callMethod) {
         boolean mustRelease = gil.acquire();
         try {
+            if (PGuards.cannotBeOverridden(self, getClassNode)) {
+                HashingStorage storage = self.getDictStorage();
+                return factory.createDictValueIterator(getStorageIter.execute(storage), storage, lenNode.execute(storage));
+            }
             Object dictValues = callMethod.execute(null, self, T_VALUES);
             return getIter.execute(null, dictValues);
         } finally {
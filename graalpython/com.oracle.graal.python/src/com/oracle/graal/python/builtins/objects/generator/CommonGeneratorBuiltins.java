@@ -84,7 +84,6 @@ import com.oracle.graal.python.nodes.object.IsBuiltinClassProfile;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
-import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CallTarget;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.RootCallTarget;
@@ -106,13 +105,13 @@ import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 @CoreFunctions(extendClasses = {PythonBuiltinClassType.PCoroutine, PythonBuiltinClassType.PGenerator})
 public class CommonGeneratorBuiltins extends PythonBuiltins {
     /**
-     * Creates a fresh copy of the generator arguments to be used for the next invocation of the
-     * generator. This is necessary to avoid persisting caller state. For example: If the generator
-     * is invoked using {@code next(g)} outside of any {@code except} handler but the generator
-     * requests the exception state, then the exception state will be written into the arguments. If
-     * we now use the same arguments array every time, the next invocation would think that there is
-     * not excepion but in fact, the a subsequent call ot {@code next} may have a different
-     * exception state.
+     * Prepares the generator arguments to be used for the next invocation of the generator. The
+     * caller state written into the arguments by the previous invocation must not persist. For
+     * example: If the generator is invoked using {@code next(g)} outside of any {@code except}
+     * handler but the generator requests the exception state, then the exception state will be
+     * written into the arguments. If we kept it, the next invocation would think that there is no
+     * exception but in fact, a subsequent call to {@code next} may have a different exception
+     * state.
      *
      * <pre>
      *     g = my_generator()
@@ -127,15 +126,35 @@ public class CommonGeneratorBuiltins extends PythonBuiltins {
      *         next(g)
      * </pre>
      *
-     * This is necessary for correct chaining of exceptions.
+     * This is necessary for correct chaining of exceptions. The invocation only writes the caller
+     * state slots reset here, so the same array can be reused instead of copying it on every
+     * resume. The generator cannot be resumed while it is running, so the array is never used by
+     * two invocations at once. The array initially comes from the call that created the generator,
+     * so the slots are reset here as well as in {@link #clearArguments} after each resume.
      */
-    private static Object[] prepareArguments(PGenerator self) {
-        Object[] generatorArguments = self.getArguments();
-        Object[] arguments = new Object[generatorArguments.length];
-        PythonUtils.arraycopy(generatorArguments, 0, arguments, 0, arguments.length);
+    private static Object[] prepareArguments(PGenerator self, Object sendValue) {
+        Object[] arguments = self.getArguments();
+        clearCallerState(arguments);
+        PArguments.setSpecialArgument(arguments, sendValue);
         return arguments;
     }
 
+    /**
+     * Drops the sent value and the caller state from the generator arguments once a resume is done,
+     * so that a suspended generator does not keep the caller's frame or exception alive.
+     */
+    private static void clearArguments(PGenerator self) {
+        Object[] arguments = self.getArguments();
+        clearCallerState(arguments);
+        PArguments.setSpecialArgument(arguments, null);
+    }
+
+    private static void clearCallerState(Object[] arguments) {
+        PArguments.setCallerFrameInfo(arguments, null);
+        PArguments.setCurrentFrameInfo(arguments, null);
+        PArguments.setException(arguments, null);
+    }
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return CommonGeneratorBuiltinsFactory.getFactories();
@@ -162,10 +181,7 @@ public class CommonGeneratorBuiltins extends PythonBuiltins {
                         @Cached IsBuiltinObjectProfile errorProfile,
                         @Cached PRaiseNode raiseNode) {
             self.setRunning(true);
-            Object[] arguments = prepareArguments(self);
-            if (sendValue != null) {
-                PArguments.setSpecialArgument(arguments, sendValue);
-            }
+            Object[] arguments = prepareArguments(self, sendValue);
             GeneratorYieldResult result;
             try {
                 result = (GeneratorYieldResult) call.execute(frame, null, null, null, arguments);
@@ -175,6 +191,7 @@ public class CommonGeneratorBuiltins extends PythonBuiltins {
                 returnProfile.enter(inliningTarget);
                 throw handleReturn(self, e, raiseNode);
             } finally {
+                clearArguments(self);
                 self.setRunning(false);
             }
             return handleResult(self, result);
@@ -190,10 +207,7 @@ public class CommonGeneratorBuiltins extends PythonBuiltins {
                         @Cached IsBuiltinObjectProfile errorProfile,
                         @Cached PRaiseNode raiseNode) {
             self.setRunning(true);
-            Object[] arguments = prepareArguments(self);
-            if (sendValue != null) {
-                PArguments.setSpecialArgument(arguments, sendValue);
-            }
+            Object[] arguments = prepareArguments(self, sendValue);
             GeneratorYieldResult result;
             try {
                 if (hasFrameProfile.profile(inliningTarget, frame != null)) {
@@ -207,6 +221,7 @@ public class CommonGeneratorBuiltins extends PythonBuiltins {
                 returnProfile.enter(inliningTarget);
                 throw handleReturn(self, e, raiseNode);
             } finally {
+                clearArguments(self);
                 self.setRunning(false);
             }
             return handleResult(self, result);
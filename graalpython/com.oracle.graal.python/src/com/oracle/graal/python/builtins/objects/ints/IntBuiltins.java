@@ -1156,6 +1156,9 @@ public final class IntBuiltins extends PythonBuiltins {
 
         @Specialization(guards = {"right >= 0", "mod > 0"})
         static long doLLPosLPos(long left, long right, long mod) {
+            if (mod <= MAX_SMALL_MODULUS) {
+                return modPowSmall(left, right, mod);
+            }
             try {
                 return PInt.longValueExact(op(left, right, mod));
             } catch (OverflowException e) {
@@ -1175,8 +1178,15 @@ public final class IntBuiltins extends PythonBuiltins {
             }
             try {
                 if (modNegativeProfile.profile(inliningTarget, mod < 0)) {
+                    if (mod >= -MAX_SMALL_MODULUS) {
+                        long pow = modPowSmall(left, right, -mod);
+                        return pow == 0 ? 0 : pow + mod;
+                    }
                     return PInt.longValueExact(opNeg(left, right, mod));
                 }
+                if (mod <= MAX_SMALL_MODULUS) {
+                    return modPowSmall(left, right, mod);
+                }
                 return PInt.longValueExact(op(left, right, mod));
             } catch (OverflowException e) {
                 // cannot happen since we took modulo long AND 'mod != 0'
@@ -1228,7 +1238,12 @@ public final class IntBuiltins extends PythonBuiltins {
                     bigModPos = bigMod;
                 }
                 try {
-                    BigInteger pow = bigLeft.modPow(bigRight, bigModPos);
+                    BigInteger pow;
+                    if (bigModPos.bitLength() < 32 && bigRight.signum() >= 0) {
+                        pow = BigInteger.valueOf(modPowSmall(bigLeft.mod(bigModPos).longValue(), bigRight, bigModPos.longValue()));
+                    } else {
+                        pow = bigLeft.modPow(bigRight, bigModPos);
+                    }
                     if (bigModPos != bigMod && !BigInteger.ZERO.equals(pow)) {
                         return pow.subtract(bigModPos);
                     } else {
@@ -1242,6 +1257,42 @@ public final class IntBuiltins extends PythonBuiltins {
             }
         }
 
+        // Products of two numbers smaller than this don't overflow a long
+        private static final long MAX_SMALL_MODULUS = 3037000499L;
+
+        /**
+         * Modular exponentiation for a modulus that is small enough to do all the arithmetic in
+         * longs, which is much cheaper than going through {@link BigInteger#modPow}.
+         */
+        static long modPowSmall(long base, long exponent, long mod) {
+            assert mod > 0 && mod <= MAX_SMALL_MODULUS && exponent >= 0;
+            long result = 1 % mod;
+            long b = Math.floorMod(base, mod);
+            long e = exponent;
+            while (e != 0) {
+                if ((e & 1) != 0) {
+                    result = result * b % mod;
+                }
+                e >>= 1;
+                if (e != 0) {
+                    b = b * b % mod;
+                }
+            }
+            return result;
+        }
+
+        private static long modPowSmall(long base, BigInteger exponent, long mod) {
+            assert mod > 0 && mod <= MAX_SMALL_MODULUS && exponent.signum() >= 0;
+            long result = 1 % mod;
+            for (int i = exponent.bitLength() - 1; i >= 0; i--) {
+                result = result * result % mod;
+                if (exponent.testBit(i)) {
+                    result = result * base % mod;
+                }
+            }
+            return result;
+        }
+
         private static BigInteger integerToBigInteger(Object value) {
             if (value instanceof Boolean) {
                 return ((boolean) value) ? BigInteger.ONE : BigInteger.ZERO;
@@ -28,6 +28,7 @@ package com.oracle.graal.python.builtins.objects.ints;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
@@ -353,6 +354,53 @@ public final class PInt extends PythonBuiltinObject {
         return Long.toHexString(value);
     }
 
+    // Decimal strings with more digits than this are parsed by splitting them in two recursively,
+    // because the BigInteger(String) constructor takes time quadratic in the number of digits
+    private static final int PARSE_DECIMAL_THRESHOLD = 1024;
+    private static final int PARSE_DECIMAL_BLOCK = 512;
+
+    /**
+     * Equivalent of {@code new BigInteger(s)}, but subquadratic for long inputs: the digits are
+     * split so that the lower part has {@code PARSE_DECIMAL_BLOCK * 2^k} digits, the halves are
+     * parsed recursively and combined with a cached power of ten.
+     */
+    @TruffleBoundary
+    public static BigInteger parseDecimal(String s) {
+        int start = 0;
+        if (!s.isEmpty() && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            start = 1;
+        }
+        if (s.length() - start <= PARSE_DECIMAL_THRESHOLD) {
+            return new BigInteger(s);
+        }
+        for (int i = start; i < s.length(); i++) {
+            if (Character.digit(s.charAt(i), 10) < 0) {
+                throw new NumberFormatException("For input string: \"" + s + "\"");
+            }
+        }
+        ArrayList<BigInteger> powers = new ArrayList<>();
+        BigInteger result = parseDecimal(s, start, s.length(), powers);
+        return s.charAt(0) == '-' ? result.negate() : result;
+    }
+
+    private static BigInteger parseDecimal(String s, int start, int end, ArrayList<BigInteger> powers) {
+        int length = end - start;
+        if (length <= PARSE_DECIMAL_THRESHOLD) {
+            return new BigInteger(s.substring(start, end));
+        }
+        int k = 0;
+        while ((PARSE_DECIMAL_BLOCK << (k + 1)) < length) {
+            k++;
+        }
+        int lowLength = PARSE_DECIMAL_BLOCK << k;
+        while (powers.size() <= k) {
+            powers.add(powers.isEmpty() ? BigInteger.TEN.pow(PARSE_DECIMAL_BLOCK) : powers.get(powers.size() - 1).pow(2));
+        }
+        BigInteger high = parseDecimal(s, start, end - lowLength, powers);
+        BigInteger low = parseDecimal(s, end - lowLength, end, powers);
+        return high.multiply(powers.get(k)).add(low);
+    }
+
     @TruffleBoundary
     public static BigInteger longToBigInteger(long value) {
         return BigInteger.valueOf(value);
@@ -88,6 +88,7 @@ import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.interop.InteropLibrary;
@@ -197,6 +198,11 @@ public abstract class IteratorNodes {
     @ImportStatic(PGuards.class)
     @GenerateUncached
     public abstract static class GetInternalIteratorSequenceStorage extends Node {
+        @NeverDefault
+        public static GetInternalIteratorSequenceStorage create() {
+            return GetInternalIteratorSequenceStorageNodeGen.create();
+        }
+
         public static GetInternalIteratorSequenceStorage getUncached() {
             return GetInternalIteratorSequenceStorageNodeGen.getUncached();
         }
@@ -49,10 +49,19 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
 import com.oracle.graal.python.nodes.PNodeWithRaise;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.object.Shape;
 
 public final class PTeeDataObject extends PythonBuiltinObject {
+    /**
+     * The values buffer of the first link of a tee starts small and grows up to
+     * {@link TeeDataObjectBuiltins#LINKCELLS}, so that tees of short streams (e.g. the usual
+     * {@code pairwise} recipe) don't allocate a full link. Links appended by {@link #jumplink} belong
+     * to streams that already filled a link and are allocated at full size right away.
+     */
+    public static final int INITIAL_CAPACITY = 8;
+
     private Object it;
     private Object[] values;
     private int numread;
@@ -63,10 +72,11 @@ public final class PTeeDataObject extends PythonBuiltinObject {
         super(cls, instanceShape);
     }
 
-    public PTeeDataObject(Object it, Object cls, Shape instanceShape) {
+    public PTeeDataObject(Object it, int capacity, Object cls, Shape instanceShape) {
         super(cls, instanceShape);
+        assert capacity > 0 && capacity <= LINKCELLS;
         this.it = it;
-        this.values = new Object[LINKCELLS];
+        this.values = new Object[capacity];
         this.numread = 0;
         this.running = false;
         this.nextlink = null;
@@ -114,7 +124,7 @@ public final class PTeeDataObject extends PythonBuiltinObject {
 
     PTeeDataObject jumplink(PythonObjectFactory factory) {
         if (getNextlink() == null) {
-            PTeeDataObject dataObj = factory.createTeeDataObject(getIt());
+            PTeeDataObject dataObj = factory.createTeeDataObject(getIt(), LINKCELLS);
             nextlink = dataObj;
         }
         return nextlink;
@@ -137,6 +147,9 @@ public final class PTeeDataObject extends PythonBuiltinObject {
             } finally {
                 running = false;
             }
+            if (numread == values.length) {
+                values = PythonUtils.arrayCopyOf(values, Math.min(values.length * 2, LINKCELLS));
+            }
             values[numread++] = value;
             return value;
         }
@@ -77,7 +77,6 @@ import com.oracle.graal.python.nodes.util.CastToJavaIntLossyNode;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
-import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -135,24 +134,23 @@ public final class TeeBuiltins extends PythonBuiltins {
         }
     }
 
-    @ImportStatic(TeeDataObjectBuiltins.class)
     @Builtin(name = J___NEXT__, minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     public abstract static class NextNode extends PythonUnaryBuiltinNode {
-        @Specialization(guards = "self.getIndex() < LINKCELLS")
+        @Specialization
         Object next(VirtualFrame frame, PTee self,
-                        @Cached BuiltinFunctions.NextNode nextNode) {
-            Object value = self.getDataobj().getItem(frame, self.getIndex(), nextNode, this);
-            self.setIndex(self.getIndex() + 1);
-            return value;
-        }
-
-        @Specialization(guards = "self.getIndex() >= LINKCELLS")
-        Object nextNext(VirtualFrame frame, PTee self,
-                        @Cached BuiltinFunctions.NextNode nextNode) {
-            self.setDataObj(self.getDataobj().jumplink(factory()));
-            Object value = self.getDataobj().getItem(frame, 0, nextNode, this);
-            self.setIndex(1);
+                        @Bind("this") Node inliningTarget,
+                        @Cached BuiltinFunctions.NextNode nextNode,
+                        @Cached InlinedConditionProfile jumpLinkProfile) {
+            PTeeDataObject dataObj = self.getDataobj();
+            int index = self.getIndex();
+            if (jumpLinkProfile.profile(inliningTarget, index >= LINKCELLS)) {
+                dataObj = dataObj.jumplink(factory());
+                self.setDataObj(dataObj);
+                index = 0;
+            }
+            Object value = dataObj.getItem(frame, index, nextNode, this);
+            self.setIndex(index + 1);
             return value;
         }
     }
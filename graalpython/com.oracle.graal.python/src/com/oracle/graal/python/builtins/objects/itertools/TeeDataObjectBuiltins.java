@@ -116,7 +116,7 @@ public final class TeeDataObjectBuiltins extends PythonBuiltins {
 
         private static void init(PTeeDataObject self, Object it, PTeeDataObject nxt) {
             self.setIt(it);
-            self.setValues(new Object[LINKCELLS]);
+            self.setValues(new Object[PTeeDataObject.INITIAL_CAPACITY]);
             self.setNumread(0);
             self.setRunning(false);
             self.setNextlink(nxt);
@@ -141,7 +141,7 @@ public final class TeeDataObjectBuiltins extends PythonBuiltins {
             }
             self.setIt(it);
             Object[] valuesArray = getStorageNode.execute(values).getInternalArray();
-            Object[] obj = new Object[LINKCELLS];
+            Object[] obj = new Object[Math.max(numread, PTeeDataObject.INITIAL_CAPACITY)];
             PythonUtils.arraycopy(valuesArray, 0, obj, 0, numread);
             self.setValues(obj);
             self.setNumread(numread);
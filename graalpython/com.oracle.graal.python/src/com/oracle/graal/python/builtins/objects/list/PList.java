@@ -27,9 +27,13 @@ package com.oracle.graal.python.builtins.objects.list;
 
 import com.oracle.graal.python.builtins.objects.common.IndexNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.PythonAbstractObject.PInteropSubscriptNode;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.lib.PyObjectSizeNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
+import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.sequence.PSequence;
@@ -152,6 +156,56 @@ public final class PList extends PSequence {
         return getOrigin() != null && getOrigin().getSourceSection() != null;
     }
 
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    public boolean hasArrayElements() {
+        return true;
+    }
+
+    /*
+     * For lists of the builtin type, the size and the elements are taken straight from the
+     * storage, so that a host iterating over a large (e.g. int or double) list does not go through
+     * a '__getitem__' lookup and call for every element. Subclasses may override '__len__' and
+     * '__getitem__', so they are handled like any other sequence.
+     */
+
+    @ExportMessage
+    public long getArraySize(
+                    @Exclusive @Cached GetClassNode getClassNode,
+                    @Exclusive @Cached PyObjectSizeNode sizeNode,
+                    @Exclusive @Cached GilNode gil) {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (PGuards.cannotBeOverridden(this, getClassNode)) {
+                return store.length();
+            }
+            return sizeNode.execute(null, this);
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
+    @ExportMessage
+    public Object readArrayElement(long index,
+                    @Exclusive @Cached GetClassNode getClassNode,
+                    @Exclusive @Cached SequenceStorageNodes.GetItemScalarNode getItem,
+                    @Exclusive @Cached PInteropSubscriptNode getItemNode,
+                    @Exclusive @Cached GilNode gil) throws InvalidArrayIndexException {
+        boolean mustRelease = gil.acquire();
+        try {
+            if (index >= 0 && index < store.length() && PGuards.cannotBeOverridden(this, getClassNode)) {
+                return getItem.execute(store, (int) index);
+            }
+            try {
+                return getItemNode.execute(this, index);
+            } catch (PException e) {
+                throw InvalidArrayIndexException.create(index);
+            }
+        } finally {
+            gil.release(mustRelease);
+        }
+    }
+
     @ExportMessage
     public boolean isArrayElementModifiable(long index,
                     @Cached.Exclusive @Cached IndexNodes.NormalizeIndexCustomMessageNode normalize,
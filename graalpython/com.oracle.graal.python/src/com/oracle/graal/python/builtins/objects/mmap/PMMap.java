@@ -90,7 +90,7 @@ public final class PMMap extends PythonObject {
         ref.close(lib, posix);
     }
 
-    boolean isClosed() {
+    public boolean isClosed() {
         return ref.isReleased();
     }
 
@@ -40,6 +40,8 @@
  */
 package com.oracle.graal.python.builtins.objects.module;
 
+import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.compiler.CodeUnit;
 import com.oracle.truffle.api.strings.TruffleString;
 
 import java.io.IOException;
@@ -52,6 +54,52 @@ public final class PythonFrozenModule {
     private final byte[] code;
     private final boolean isPackage;
 
+    /**
+     * The deserialized form of {@link #code}. It does not depend on any context, so it is created
+     * once on first import and then shared by all contexts and engines. Modules imported during
+     * image build time end up in the image heap.
+     */
+    private volatile FrozenCode frozenCode;
+
+    /**
+     * The contents of a marshalled frozen code object with the code unit already deserialized.
+     */
+    public static final class FrozenCode {
+        private final TruffleString filename;
+        private final int flags;
+        private final CodeUnit codeUnit;
+        private final int firstLineNo;
+        private final byte[] linetable;
+
+        public FrozenCode(TruffleString filename, int flags, CodeUnit codeUnit, int firstLineNo, byte[] linetable) {
+            this.filename = filename;
+            this.flags = flags;
+            this.codeUnit = codeUnit;
+            this.firstLineNo = firstLineNo;
+            this.linetable = linetable;
+        }
+
+        public TruffleString getFilename() {
+            return filename;
+        }
+
+        public int getFlags() {
+            return flags;
+        }
+
+        public CodeUnit getCodeUnit() {
+            return codeUnit;
+        }
+
+        public int getFirstLineNo() {
+            return firstLineNo;
+        }
+
+        public byte[] getLinetable() {
+            return linetable;
+        }
+    }
+
     private static byte[] getByteCode(String symbol) {
         try {
             InputStream resourceAsStream = PythonFrozenModule.class.getResourceAsStream("Frozen" + symbol + ".bin");
@@ -69,16 +117,21 @@ public final class PythonFrozenModule {
     }
 
     private PythonFrozenModule(TruffleString name, byte[] code, boolean isPackage) {
+        this(name, code, isPackage, null);
+    }
+
+    private PythonFrozenModule(TruffleString name, byte[] code, boolean isPackage, FrozenCode frozenCode) {
         this.name = name;
         this.code = code;
         this.isPackage = isPackage;
+        this.frozenCode = frozenCode;
     }
 
     public PythonFrozenModule asPackage(boolean flag) {
         if (flag == isPackage) {
             return this;
         } else {
-            return new PythonFrozenModule(name, code, flag);
+            return new PythonFrozenModule(name, code, flag, frozenCode);
         }
     }
 
@@ -90,6 +143,21 @@ public final class PythonFrozenModule {
         return code;
     }
 
+    /**
+     * Returns the deserialized code of this module. Must only be called if {@link #getCode()} is
+     * not {@code null}. Invalid code fails as described in
+     * {@link MarshalModuleBuiltins#deserializeFrozenCode}.
+     */
+    public FrozenCode getFrozenCode() {
+        FrozenCode result = frozenCode;
+        if (result == null) {
+            // racing threads may both deserialize, but the results are equivalent
+            result = MarshalModuleBuiltins.deserializeFrozenCode(code);
+            frozenCode = result;
+        }
+        return result;
+    }
+
     public boolean isPackage() {
         return isPackage;
     }
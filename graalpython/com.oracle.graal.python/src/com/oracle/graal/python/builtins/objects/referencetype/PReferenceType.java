@@ -74,7 +74,10 @@ public class PReferenceType extends PythonBuiltinObject {
     @TruffleBoundary
     public PReferenceType(Object cls, Shape instanceShape, Object pythonObject, Object callback, ReferenceQueue<Object> queue) {
         super(cls, instanceShape);
-        this.store = new WeakRefStorage(this, pythonObject, callback, queue);
+        // Only references with a callback need to be enqueued once their referent dies. Not
+        // registering the others spares the GC the reference processing and keeps them out of the
+        // callback batches.
+        this.store = new WeakRefStorage(this, pythonObject, callback, callback != null ? queue : null);
     }
 
     public Object getCallback() {
@@ -581,7 +581,7 @@ public final class CertUtils {
     }
 
     @TruffleBoundary
-    public static List<Object> loadVerifyLocations(TruffleFile file, TruffleFile path) throws IOException, CertificateException, CRLException, NoCertificateFoundException {
+    public static List<Object> loadVerifyLocations(CertificateCache cache, TruffleFile file, TruffleFile path) throws IOException, CertificateException, CRLException, NoCertificateFoundException {
         Collection<TruffleFile> files = new ArrayList<>();
         if (file != null) {
             files.add(file);
@@ -593,13 +593,11 @@ public final class CertUtils {
         }
         List<Object> result = new ArrayList<>();
         for (TruffleFile f : files) {
-            try (BufferedReader r = f.newBufferedReader()) {
-                List<Object> certificates = getCertificates(r);
-                if (certificates.isEmpty()) {
-                    throw new NoCertificateFoundException();
-                }
-                result.addAll(certificates);
+            List<Object> certificates = cache.getCertificates(f);
+            if (certificates.isEmpty()) {
+                throw new NoCertificateFoundException();
             }
+            result.addAll(certificates);
         }
         return result;
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.ssl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CRLException;
+import java.security.cert.CertificateException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleFile;
+
+/**
+ * Engine-wide cache of parsed CA certificates and CRLs. Files are keyed by their absolute path and
+ * are parsed again when their modification time or size changes, PEM data passed as
+ * {@code cadata} is keyed by its SHA-256 digest. The parsed objects are immutable and can be shared
+ * by all contexts of the engine. The default trust manager of the JDK, which loads the JDK's trust
+ * store, is created only once as well.
+ */
+public final class CertificateCache {
+    private static final int MAX_ENTRIES = 256;
+
+    private static final class FileEntry {
+        private final long lastModified;
+        private final long size;
+        private final List<Object> certificates;
+
+        FileEntry(long lastModified, long size, List<Object> certificates) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.certificates = certificates;
+        }
+    }
+
+    private final ConcurrentHashMap<String, FileEntry> files = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<Object>> data = new ConcurrentHashMap<>();
+    private volatile X509ExtendedTrustManager defaultTrustManager;
+
+    /**
+     * Returns the certificates and CRLs in the PEM file. The returned list must not be modified.
+     */
+    @TruffleBoundary
+    public List<Object> getCertificates(TruffleFile file) throws IOException, CertificateException, CRLException {
+        String key = file.getAbsoluteFile().getPath();
+        long lastModified = file.getLastModifiedTime().toMillis();
+        long size = file.size();
+        FileEntry entry = files.get(key);
+        if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+            return entry.certificates;
+        }
+        List<Object> certificates;
+        try (BufferedReader r = file.newBufferedReader()) {
+            certificates = Collections.unmodifiableList(CertUtils.getCertificates(r));
+        }
+        if (files.size() >= MAX_ENTRIES) {
+            files.clear();
+        }
+        files.put(key, new FileEntry(lastModified, size, certificates));
+        return certificates;
+    }
+
+    /**
+     * Returns the certificates and CRLs in the PEM string. The returned list must not be modified.
+     */
+    @TruffleBoundary
+    public List<Object> getCertificates(String pem) throws IOException, CertificateException, CRLException, NoSuchAlgorithmException {
+        String key = digest(pem);
+        List<Object> certificates = data.get(key);
+        if (certificates == null) {
+            try (BufferedReader r = new BufferedReader(new StringReader(pem))) {
+                certificates = Collections.unmodifiableList(CertUtils.getCertificates(r));
+            }
+            if (data.size() >= MAX_ENTRIES) {
+                data.clear();
+            }
+            data.put(key, certificates);
+        }
+        return certificates;
+    }
+
+    private static String digest(String pem) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(pem.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    @TruffleBoundary
+    public X509ExtendedTrustManager getDefaultTrustManager() throws KeyStoreException, NoSuchAlgorithmException {
+        X509ExtendedTrustManager tm = defaultTrustManager;
+        if (tm == null) {
+            synchronized (this) {
+                tm = defaultTrustManager;
+                if (tm == null) {
+                    TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                    tmf.init((KeyStore) null);
+                    for (TrustManager candidate : tmf.getTrustManagers()) {
+                        if (candidate instanceof X509ExtendedTrustManager) {
+                            tm = (X509ExtendedTrustManager) candidate;
+                            break;
+                        }
+                    }
+                    if (tm == null) {
+                        throw new IllegalStateException("at least one X509ExtendedTrustManager should be provided.");
+                    }
+                    defaultTrustManager = tm;
+                }
+            }
+        }
+        return tm;
+    }
+}
@@ -50,6 +50,7 @@ import java.util.Arrays;
 
 import javax.net.ssl.SSLContext;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.modules.SSLModuleBuiltins;
 import static com.oracle.graal.python.builtins.modules.SSLModuleBuiltins.LOGGER;
 import static com.oracle.graal.python.builtins.modules.SSLModuleBuiltins.X509_V_FLAG_CRL_CHECK;
@@ -91,6 +92,9 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509ExtendedTrustManager;
 
 public final class PSSLContext extends PythonBuiltinObject {
+    // Same as OpenSSL's SSL_SESSION_CACHE_MAX_SIZE_DEFAULT
+    public static final int DEFAULT_SESSION_CACHE_SIZE = 1024 * 20;
+
     private final SSLMethod method;
     private final SSLContext context;
     private boolean checkHostname;
@@ -110,8 +114,23 @@ public final class PSSLContext extends PythonBuiltinObject {
 
     private boolean useDefaultTrustStore;
 
+    // Whether the JDK context was initialized with the current trust and key material
+    private boolean initialized;
+
     private char[] password = PythonUtils.EMPTY_CHAR_ARRAY;
 
+    // Counters reported by session_stats()
+    private int connectCount;
+    private int connectGoodCount;
+    private int acceptCount;
+    private int acceptGoodCount;
+    private int sessionHits;
+    private int sessionMisses;
+
+    // The last peer port used as the client session cache key, see
+    // SSLContextBuiltins#createEngine
+    private int lastPeerPortKey = -1;
+
     public PSSLContext(Object cls, Shape instanceShape, SSLMethod method, int verifyFlags, boolean checkHostname, int verifyMode, SSLContext context) {
         super(cls, instanceShape);
         assert method != null;
@@ -168,6 +187,7 @@ public final class PSSLContext extends PythonBuiltinObject {
 
     @TruffleBoundary
     void setCAEntries(Collection<? extends Object> list) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
+        initialized = false;
         for (Object obj : list) {
             if (obj instanceof X509Certificate) {
                 X509Certificate cert = (X509Certificate) obj;
@@ -189,11 +209,19 @@ public final class PSSLContext extends PythonBuiltinObject {
     }
 
     void setCertChain(PrivateKey pk, char[] password, X509Certificate[] certs) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
+        initialized = false;
         this.password = password;
         getChainKeyStore().setKeyEntry(CertUtils.getAlias(pk), pk, password, certs);
     }
 
+    /**
+     * Initializes the JDK context with the current trust and key material. Does nothing if none of
+     * it changed since the last call.
+     */
     void init() throws KeyStoreException, NoSuchAlgorithmException, UnrecoverableKeyException, KeyManagementException, InvalidAlgorithmParameterException, IOException, CertificateException {
+        if (initialized) {
+            return;
+        }
         X509ExtendedTrustManager defaultTrustManager = getDefaultTrustManager();
         X509ExtendedTrustManager trustManager = getX509ExtendedTrustManager(getTrustManagerFactory(getCAKeyStore()).getTrustManagers());
         TrustManager tm = new DelegateTrustManager(trustManager, defaultTrustManager, verifyMode);
@@ -206,13 +234,12 @@ public final class PSSLContext extends PythonBuiltinObject {
         }
 
         context.init(kms, new TrustManager[]{tm}, null);
+        initialized = true;
     }
 
     private X509ExtendedTrustManager getDefaultTrustManager() throws KeyStoreException, NoSuchAlgorithmException {
         if (useDefaultTrustStore) {
-            TrustManagerFactory tmf = getTrustManagerFactory();
-            tmf.init((KeyStore) null);
-            return getX509ExtendedTrustManager(tmf.getTrustManagers());
+            return PythonLanguage.get(null).getCertificateCache().getDefaultTrustManager();
         }
         return null;
     }
@@ -263,6 +290,102 @@ public final class PSSLContext extends PythonBuiltinObject {
         return context;
     }
 
+    @TruffleBoundary
+    int getSessionCacheSize() {
+        return context.getClientSessionContext().getSessionCacheSize();
+    }
+
+    /**
+     * Sets the size of both the client and the server session cache. Zero means no limit.
+     */
+    @TruffleBoundary
+    void setSessionCacheSize(int size) {
+        LOGGER.fine(() -> String.format("PSSLContext.setSessionCacheSize: %d", size));
+        context.getClientSessionContext().setSessionCacheSize(size);
+        context.getServerSessionContext().setSessionCacheSize(size);
+    }
+
+    @TruffleBoundary
+    int getSessionTimeout() {
+        return context.getClientSessionContext().getSessionTimeout();
+    }
+
+    /**
+     * Sets the lifetime of cached sessions in seconds for both the client and the server session
+     * cache. Zero means no limit.
+     */
+    @TruffleBoundary
+    void setSessionTimeout(int seconds) {
+        LOGGER.fine(() -> String.format("PSSLContext.setSessionTimeout: %d", seconds));
+        context.getClientSessionContext().setSessionTimeout(seconds);
+        context.getServerSessionContext().setSessionTimeout(seconds);
+    }
+
+    @TruffleBoundary
+    int getCachedSessionCount() {
+        int count = 0;
+        for (Enumeration<byte[]> ids = context.getClientSessionContext().getIds(); ids.hasMoreElements(); ids.nextElement()) {
+            count++;
+        }
+        for (Enumeration<byte[]> ids = context.getServerSessionContext().getIds(); ids.hasMoreElements(); ids.nextElement()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a peer port for a new client engine that no other engine of this context used, so that
+     * JSSE does not find a cached session for it.
+     */
+    int nextPeerPortKey() {
+        return --lastPeerPortKey;
+    }
+
+    void handshakeStarted(boolean serverMode) {
+        if (serverMode) {
+            acceptCount++;
+        } else {
+            connectCount++;
+        }
+    }
+
+    void handshakeFinished(boolean serverMode, boolean sessionReused) {
+        if (serverMode) {
+            acceptGoodCount++;
+        } else {
+            connectGoodCount++;
+        }
+        if (sessionReused) {
+            sessionHits++;
+        } else {
+            sessionMisses++;
+        }
+    }
+
+    int getConnectCount() {
+        return connectCount;
+    }
+
+    int getConnectGoodCount() {
+        return connectGoodCount;
+    }
+
+    int getAcceptCount() {
+        return acceptCount;
+    }
+
+    int getAcceptGoodCount() {
+        return acceptGoodCount;
+    }
+
+    int getSessionHits() {
+        return sessionHits;
+    }
+
+    int getSessionMisses() {
+        return sessionMisses;
+    }
+
     public boolean getCheckHostname() {
         return checkHostname;
     }
@@ -280,10 +403,12 @@ public final class PSSLContext extends PythonBuiltinObject {
         assert verifyMode == SSLModuleBuiltins.SSL_CERT_NONE || verifyMode == SSLModuleBuiltins.SSL_CERT_OPTIONAL || verifyMode == SSLModuleBuiltins.SSL_CERT_REQUIRED;
         LOGGER.fine(() -> String.format("PSSLContext.setVerifyMode: %d", verifyMode));
         this.verifyMode = verifyMode;
+        this.initialized = false;
     }
 
     public void setUseDefaultTrustStore(boolean useDefaultTrustStore) {
         this.useDefaultTrustStore = useDefaultTrustStore;
+        this.initialized = false;
     }
 
     @TruffleBoundary
@@ -326,6 +451,7 @@ public final class PSSLContext extends PythonBuiltinObject {
     void setVerifyFlags(int flags) {
         LOGGER.fine(() -> String.format("PSSLContext.setVerifyFlags: %d", flags));
         this.verifyFlags = flags;
+        this.initialized = false;
     }
 
     public String[] getAlpnProtocols() {
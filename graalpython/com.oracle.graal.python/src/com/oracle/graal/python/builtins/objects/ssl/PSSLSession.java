@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.ssl;
+
+import javax.net.ssl.SSLSession;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Python wrapper of a negotiated TLS session. Passing it as {@code session} to a new connection of
+ * the same context asks for the session to be resumed.
+ */
+public final class PSSLSession extends PythonBuiltinObject {
+    /*
+     * Name of the value bound to sessions that were offered for resumption. JSSE shares the bound
+     * values of a session with the copies it caches for resumption, so a client handshake resumed
+     * an offered session iff its negotiated session carries this value.
+     */
+    private static final String OFFERED = "graalpython.offered";
+
+    private final PSSLContext context;
+    private final SSLSession session;
+
+    public PSSLSession(Object cls, Shape instanceShape, PSSLContext context, SSLSession session) {
+        super(cls, instanceShape);
+        this.context = context;
+        this.session = session;
+    }
+
+    public PSSLContext getContext() {
+        return context;
+    }
+
+    public SSLSession getSession() {
+        return session;
+    }
+
+    @TruffleBoundary
+    void markOffered() {
+        session.putValue(OFFERED, Boolean.TRUE);
+    }
+
+    @TruffleBoundary
+    static boolean wasOffered(SSLSession session) {
+        return session.getValue(OFFERED) != null;
+    }
+}
@@ -52,7 +52,7 @@ public final class PSSLSocket extends PythonBuiltinObject {
     private final PSSLContext context;
     // May be null for SSLSocket backed by MemoryBIO
     private final PSocket socket;
-    private final SSLEngine engine;
+    private SSLEngine engine;
     private Object owner;
     private TruffleString serverHostname;
 
@@ -64,6 +64,15 @@ public final class PSSLSocket extends PythonBuiltinObject {
     private SSLException exception;
 
     private boolean handshakeComplete = false;
+    // Wall-clock time in milliseconds when the first handshake started, used to detect resumed
+    // sessions, which were created before that
+    private long handshakeStartTime;
+    // Whether the first handshake finished, renegotiations don't change the session statistics
+    private boolean firstHandshakeFinished;
+    private boolean sessionReused;
+    // Reused for reads into buffers that don't expose a byte array, so that each read doesn't
+    // allocate a new temporary array
+    private byte[] readScratch;
 
     public PSSLSocket(Object cls, Shape instanceShape, PSSLContext context, SSLEngine engine, PSocket socket, PMemoryBIO networkInboundBIO, PMemoryBIO networkOutboundBIO,
                     PMemoryBIO applicationInboundBIO) {
@@ -88,6 +97,14 @@ public final class PSSLSocket extends PythonBuiltinObject {
         return engine;
     }
 
+    /**
+     * Replaces the engine before the handshake started, e.g., when the session to resume is set.
+     */
+    public void setEngine(SSLEngine engine) {
+        assert handshakeStartTime == 0;
+        this.engine = engine;
+    }
+
     public boolean isHandshakeComplete() {
         return handshakeComplete;
     }
@@ -96,6 +113,38 @@ public final class PSSLSocket extends PythonBuiltinObject {
         this.handshakeComplete = handshakeComplete;
     }
 
+    public long getHandshakeStartTime() {
+        return handshakeStartTime;
+    }
+
+    public void setHandshakeStartTime(long handshakeStartTime) {
+        this.handshakeStartTime = handshakeStartTime;
+    }
+
+    public boolean isSessionReused() {
+        return sessionReused;
+    }
+
+    public boolean isFirstHandshakeFinished() {
+        return firstHandshakeFinished;
+    }
+
+    public void setFirstHandshakeFinished(boolean sessionReused) {
+        this.firstHandshakeFinished = true;
+        this.sessionReused = sessionReused;
+    }
+
+    /**
+     * Get a temporary array of at least {@code length} bytes owned by this socket. The contents are
+     * only valid until the next call.
+     */
+    public byte[] getReadScratch(int length) {
+        if (readScratch == null || readScratch.length < length) {
+            readScratch = new byte[length];
+        }
+        return readScratch;
+    }
+
     public PMemoryBIO getNetworkInboundBIO() {
         return networkInboundBIO;
     }
@@ -51,7 +51,6 @@ import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
@@ -69,6 +68,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Level;
 
 import javax.net.ssl.SNIHostName;
@@ -193,8 +193,10 @@ public class SSLContextBuiltins extends PythonBuiltins {
         @TruffleBoundary
         private static SSLContext createSSLContext() throws NoSuchAlgorithmException, KeyManagementException {
             SSLContext context = SSLContext.getInstance("TLS");
-            // Disable automatic client session caching, because CPython doesn't do that
-            context.getClientSessionContext().setSessionCacheSize(0);
+            // Client engines are created with a peer port of their own, so that sessions are only
+            // resumed when passed explicitly, like in CPython (see createEngine)
+            context.getClientSessionContext().setSessionCacheSize(PSSLContext.DEFAULT_SESSION_CACHE_SIZE);
+            context.getServerSessionContext().setSessionCacheSize(PSSLContext.DEFAULT_SESSION_CACHE_SIZE);
             // Pre-init to be able to get default parameters
             context.init(null, null, null);
             return context;
@@ -206,17 +208,38 @@ public class SSLContextBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Checks the {@code session} argument of {@code _wrap_socket} and {@code _wrap_bio} or the
+     * value assigned to {@code SSLSocket.session}. Returns {@code null} if there is no session to
+     * resume.
+     */
+    static PSSLSession checkSession(PNodeWithRaise node, PSSLContext context, boolean serverMode, Object session) {
+        if (session instanceof PNone) {
+            return null;
+        }
+        if (!(session instanceof PSSLSession)) {
+            throw node.raise(TypeError, ErrorMessages.VALUE_IS_NOT_A_SSLSESSION);
+        }
+        if (((PSSLSession) session).getContext() != context) {
+            throw node.raise(ValueError, ErrorMessages.SESSION_REFERS_TO_DIFFERENT_SSLCONTEXT);
+        }
+        if (serverMode) {
+            throw node.raise(ValueError, ErrorMessages.CANNOT_SET_SESSION_FOR_SERVER_SIDE_SSLSOCKET);
+        }
+        return (PSSLSession) session;
+    }
+
     @TruffleBoundary
-    static SSLEngine createSSLEngine(PNodeWithRaise node, PSSLContext context, boolean serverMode, String serverHostname) {
+    static SSLEngine createSSLEngine(PNodeWithRaise node, PSSLContext context, boolean serverMode, String serverHostname, PSSLSession session) {
         try {
             context.init();
         } catch (NoSuchAlgorithmException | KeyStoreException | UnrecoverableKeyException | KeyManagementException | InvalidAlgorithmParameterException | IOException | CertificateException ex) {
             throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_SSL, ex);
         }
         SSLParameters parameters = new SSLParameters();
-        SSLEngine engine;
+        boolean ipAddress = serverHostname != null && isIPAddress(serverHostname);
         // Set SNI hostname only for non-IP hostnames
-        if (serverHostname != null && !isIPAddress(serverHostname)) {
+        if (serverHostname != null && !ipAddress) {
             try {
                 parameters.setServerNames(Collections.singletonList(new SNIHostName(serverHostname)));
             } catch (IllegalArgumentException e) {
@@ -228,10 +251,8 @@ public class SSLContextBuiltins extends PythonBuiltins {
             if (context.getCheckHostname()) {
                 parameters.setEndpointIdentificationAlgorithm("HTTPS");
             }
-            engine = context.getContext().createSSLEngine(serverHostname, -1);
-        } else {
-            engine = context.getContext().createSSLEngine();
         }
+        SSLEngine engine = createEngine(context, serverMode, serverHostname, session);
         engine.setUseClientMode(!serverMode);
         engine.setEnabledProtocols(context.computeEnabledProtocols());
 
@@ -265,6 +286,24 @@ public class SSLContextBuiltins extends PythonBuiltins {
         return engine;
     }
 
+    /**
+     * Creates the engine for {@code serverHostname}. A JDK client engine offers the session cached
+     * for its peer host and port, so every client engine gets a port that is only used as the cache
+     * key, and only an engine for the given {@code session} is created with that session's key. The
+     * JDK checks the server certificate against the peer host, so a session is only resumed when it
+     * was negotiated with the same host. Otherwise a full handshake is done.
+     */
+    private static SSLEngine createEngine(PSSLContext context, boolean serverMode, String serverHostname, PSSLSession session) {
+        if (serverMode) {
+            return context.getContext().createSSLEngine();
+        }
+        if (session != null && Objects.equals(serverHostname, session.getSession().getPeerHost())) {
+            session.markOffered();
+            return context.getContext().createSSLEngine(serverHostname, session.getSession().getPeerPort());
+        }
+        return context.getContext().createSSLEngine(serverHostname, context.nextPeerPortKey());
+    }
+
     @TruffleBoundary
     private static boolean isIPAddress(String str) {
         return IPAddressUtil.isIPv4LiteralAddress(str) || IPAddressUtil.isIPv6LiteralAddress(str) ||
@@ -276,14 +315,15 @@ public class SSLContextBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class WrapSocketNode extends PythonClinicBuiltinNode {
         @Specialization
-        Object wrap(PSSLContext context, PSocket sock, boolean serverSide, Object serverHostnameObj, Object owner, @SuppressWarnings("unused") PNone session,
+        Object wrap(PSSLContext context, PSocket sock, boolean serverSide, Object serverHostnameObj, Object owner, Object session,
                         @Cached StringNodes.CastToTruffleStringCheckedNode cast,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode) {
             TruffleString serverHostname = null;
             if (!(serverHostnameObj instanceof PNone)) {
                 serverHostname = cast.cast(serverHostnameObj, ErrorMessages.S_MUST_BE_NONE_OR_STRING, "serverHostname", serverHostnameObj);
             }
-            SSLEngine engine = createSSLEngine(this, context, serverSide, serverHostname == null ? null : toJavaStringNode.execute(serverHostname));
+            PSSLSession sessionToResume = checkSession(this, context, serverSide, session);
+            SSLEngine engine = createSSLEngine(this, context, serverSide, serverHostname == null ? null : toJavaStringNode.execute(serverHostname), sessionToResume);
             PSSLSocket sslSocket = factory().createSSLSocket(PythonBuiltinClassType.PSSLSocket, context, engine, sock);
             if (!(owner instanceof PNone)) {
                 sslSocket.setOwner(owner);
@@ -309,15 +349,15 @@ public class SSLContextBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class WrapBIONode extends PythonClinicBuiltinNode {
         @Specialization
-        Object wrap(PSSLContext context, PMemoryBIO incoming, PMemoryBIO outgoing, boolean serverSide, Object serverHostnameObj, Object owner,
-                        @SuppressWarnings("unused") PNone session,
+        Object wrap(PSSLContext context, PMemoryBIO incoming, PMemoryBIO outgoing, boolean serverSide, Object serverHostnameObj, Object owner, Object session,
                         @Cached StringNodes.CastToTruffleStringCheckedNode cast,
                         @Cached TruffleString.ToJavaStringNode toJavaStringNode) {
             TruffleString serverHostname = null;
             if (!(serverHostnameObj instanceof PNone)) {
                 serverHostname = cast.cast(serverHostnameObj, ErrorMessages.S_MUST_BE_NONE_OR_STRING, "serverHostname", serverHostnameObj);
             }
-            SSLEngine engine = createSSLEngine(this, context, serverSide, serverHostname == null ? null : toJavaStringNode.execute(serverHostname));
+            PSSLSession sessionToResume = checkSession(this, context, serverSide, session);
+            SSLEngine engine = createSSLEngine(this, context, serverSide, serverHostname == null ? null : toJavaStringNode.execute(serverHostname), sessionToResume);
             PSSLSocket sslSocket = factory().createSSLSocket(PythonBuiltinClassType.PSSLSocket, context, engine, incoming, outgoing);
             if (!(owner instanceof PNone)) {
                 sslSocket.setOwner(owner);
@@ -603,7 +643,7 @@ public class SSLContextBuiltins extends PythonBuiltins {
             if (file != null || path != null) {
                 LOGGER.fine(() -> String.format("set_default_verify_paths file: %s. path: %s", file != null ? file.getPath() : "None", path != null ? path.getPath() : "None"));
                 try {
-                    self.setCAEntries(CertUtils.loadVerifyLocations(file, path));
+                    self.setCAEntries(CertUtils.loadVerifyLocations(getLanguage().getCertificateCache(), file, path));
                 } catch (IOException | DecoderException | GeneralSecurityException | NoCertificateFoundException ex) {
                     // do not raise any errors
                     LOGGER.log(Level.FINER, "", ex);
@@ -677,6 +717,81 @@ public class SSLContextBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "session_stats", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class SessionStatsNode extends PythonUnaryBuiltinNode {
+
+        public static final TruffleString T_NUMBER = tsLiteral("number");
+        public static final TruffleString T_CONNECT = tsLiteral("connect");
+        public static final TruffleString T_CONNECT_GOOD = tsLiteral("connect_good");
+        public static final TruffleString T_CONNECT_RENEGOTIATE = tsLiteral("connect_renegotiate");
+        public static final TruffleString T_ACCEPT = tsLiteral("accept");
+        public static final TruffleString T_ACCEPT_GOOD = tsLiteral("accept_good");
+        public static final TruffleString T_ACCEPT_RENEGOTIATE = tsLiteral("accept_renegotiate");
+        public static final TruffleString T_HITS = tsLiteral("hits");
+        public static final TruffleString T_MISSES = tsLiteral("misses");
+        public static final TruffleString T_TIMEOUTS = tsLiteral("timeouts");
+        public static final TruffleString T_CACHE_FULL = tsLiteral("cache_full");
+
+        @Specialization
+        Object sessionStats(PSSLContext self) {
+            // The JDK evicts expired and excess sessions silently, so timeouts and cache_full are
+            // not known
+            return factory().createDict(new PKeyword[]{
+                            new PKeyword(T_NUMBER, self.getCachedSessionCount()),
+                            new PKeyword(T_CONNECT, self.getConnectCount()),
+                            new PKeyword(T_CONNECT_GOOD, self.getConnectGoodCount()),
+                            new PKeyword(T_CONNECT_RENEGOTIATE, 0),
+                            new PKeyword(T_ACCEPT, self.getAcceptCount()),
+                            new PKeyword(T_ACCEPT_GOOD, self.getAcceptGoodCount()),
+                            new PKeyword(T_ACCEPT_RENEGOTIATE, 0),
+                            new PKeyword(T_HITS, self.getSessionHits()),
+                            new PKeyword(T_MISSES, self.getSessionMisses()),
+                            new PKeyword(T_TIMEOUTS, 0),
+                            new PKeyword(T_CACHE_FULL, 0)});
+        }
+    }
+
+    @Builtin(name = "session_cache_size", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class SessionCacheSizeNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static int get(PSSLContext self, @SuppressWarnings("unused") PNone none) {
+            return self.getSessionCacheSize();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        Object set(VirtualFrame frame, PSSLContext self, Object value,
+                        @Cached PyNumberAsSizeNode asSizeNode) {
+            int size = asSizeNode.executeExact(frame, value);
+            if (size < 0) {
+                throw raise(ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "session_cache_size");
+            }
+            self.setSessionCacheSize(size);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "session_timeout", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class SessionTimeoutNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static int get(PSSLContext self, @SuppressWarnings("unused") PNone none) {
+            return self.getSessionTimeout();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        Object set(VirtualFrame frame, PSSLContext self, Object value,
+                        @Cached PyNumberAsSizeNode asSizeNode) {
+            int seconds = asSizeNode.executeExact(frame, value);
+            if (seconds < 0) {
+                throw raise(ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "session_timeout");
+            }
+            self.setSessionTimeout(seconds);
+            return PNone.NONE;
+        }
+    }
+
     @Builtin(name = "load_verify_locations", minNumOfPositionalArgs = 1, parameterNames = {"$self", "cafile", "capath", "cadata"})
     @GenerateNodeFactory
     @TypeSystemReference(PythonArithmeticTypes.class)
@@ -733,7 +848,7 @@ public class SSLContextBuiltins extends PythonBuiltins {
                     LOGGER.fine(() -> String.format("LoadVerifyLocationsNode cafile: %s, capath: %s", file != null ? file.getPath() : "None", path != null ? path.getPath() : "None"));
                     // https://www.openssl.org/docs/man1.1.1/man3/SSL_CTX_load_verify_locations.html
                     try {
-                        self.setCAEntries(CertUtils.loadVerifyLocations(file, path));
+                        self.setCAEntries(CertUtils.loadVerifyLocations(getLanguage().getCertificateCache(), file, path));
                     } catch (NoCertificateFoundException e) {
                         throw constructAndRaiseNode.raiseSSLError(frame, SSLErrorCode.ERROR_NO_CERTIFICATE_OR_CRL_FOUND, ErrorMessages.NO_CERTIFICATE_OR_CRL_FOUND);
                     } catch (IOException | DecoderException e) {
@@ -756,27 +871,25 @@ public class SSLContextBuiltins extends PythonBuiltins {
         }
 
         private List<Object> fromString(String dataString)
-                        throws IOException, CertificateException, CRLException {
+                        throws CertificateException, CRLException, NoSuchAlgorithmException {
             if (dataString.isEmpty()) {
                 throw raise(ValueError, ErrorMessages.EMPTY_CERTIFICATE_DATA);
             }
-            return getCertificates(dataString);
+            return getCertificates(getLanguage().getCertificateCache(), dataString);
         }
 
         @TruffleBoundary
-        private static List<Object> getCertificates(String dataString) throws PException, CRLException, IOException, CertificateException {
-            try (BufferedReader r = new BufferedReader(new StringReader(dataString))) {
-                try {
-                    List<Object> certificates = CertUtils.getCertificates(r);
-                    if (certificates.isEmpty()) {
-                        throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_NO_START_LINE, ErrorMessages.SSL_PEM_NO_START_LINE);
-                    }
-                    return certificates;
-                } catch (DecoderException e) {
-                    throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_BAD_BASE64_DECODE, ErrorMessages.BAD_BASE64_DECODE);
-                } catch (IOException e) {
-                    throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_SSL_PEM_LIB, ErrorMessages.SSL_PEM_LIB);
+        private static List<Object> getCertificates(CertificateCache cache, String dataString) throws PException, CRLException, CertificateException, NoSuchAlgorithmException {
+            try {
+                List<Object> certificates = cache.getCertificates(dataString);
+                if (certificates.isEmpty()) {
+                    throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_NO_START_LINE, ErrorMessages.SSL_PEM_NO_START_LINE);
                 }
+                return certificates;
+            } catch (DecoderException e) {
+                throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_BAD_BASE64_DECODE, ErrorMessages.BAD_BASE64_DECODE);
+            } catch (IOException e) {
+                throw PConstructAndRaiseNode.raiseUncachedSSLError(SSLErrorCode.ERROR_SSL_PEM_LIB, ErrorMessages.SSL_PEM_LIB);
             }
         }
 
@@ -150,6 +150,8 @@ public abstract class SSLOperationNode extends PNodeWithRaise {
 
     private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
     private static final int TLS_HEADER_SIZE = 5;
+    // Upper bound of encrypted data accumulated before it's sent to the socket by a write
+    private static final int MAX_COALESCED_WRITE_SIZE = 64 * 1024;
 
     protected enum SSLOperationStatus {
         WANTS_READ,
@@ -331,6 +333,10 @@ public abstract class SSLOperationNode extends PNodeWithRaise {
         }
         SSLEngine engine = socket.getEngine();
         PSocket pSocket = socket.getSocket();
+        if (socket.getHandshakeStartTime() == 0) {
+            socket.setHandshakeStartTime(System.currentTimeMillis());
+            socket.getContext().handshakeStarted(!engine.getUseClientMode());
+        }
         // Whether we can write directly to targetBuffer
         boolean writeDirectlyToTarget = true;
         boolean currentlyWrapping;
@@ -397,11 +403,24 @@ public abstract class SSLOperationNode extends PNodeWithRaise {
                 continue transmissionLoop;
             }
             if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.FINISHED && !engine.isOutboundDone()) {
+                if (!socket.isFirstHandshakeFinished()) {
+                    boolean reused;
+                    if (engine.getUseClientMode()) {
+                        reused = PSSLSession.wasOffered(engine.getSession());
+                    } else {
+                        // JSSE doesn't tell the server whether the client resumed a session. A
+                        // resumed session was created by an earlier handshake.
+                        reused = engine.getSession().getCreationTime() < socket.getHandshakeStartTime();
+                    }
+                    socket.setFirstHandshakeFinished(reused);
+                    socket.getContext().handshakeFinished(!engine.getUseClientMode(), reused);
+                }
                 socket.setHandshakeComplete(true);
             }
             // Send the network output to socket, if any. If the output is a MemoryBIO, the
-            // output is already in it at this point
-            if (pSocket != null && networkOutboundBIO.getPending() > 0) {
+            // output is already in it at this point. When writing application data to a blocking
+            // socket, we first wrap several records and then send them all using a single call
+            if (pSocket != null && networkOutboundBIO.getPending() > 0 && !canCoalesceWrite(pSocket, op, currentlyWrapping, result, appInput, networkOutboundBIO)) {
                 return SSLOperationStatus.WANTS_WRITE;
             }
             // Handle possible closure
@@ -498,6 +517,27 @@ public abstract class SSLOperationNode extends PNodeWithRaise {
         return SSLOperationStatus.COMPLETE;
     }
 
+    /**
+     * Whether the records already wrapped by a write operation can stay in the network buffer while
+     * we wrap more. This is only done for sockets that are not in non-blocking mode - non-blocking
+     * writes that don't complete are retried by the caller with the same data, so we must not
+     * consume more of it than we can send.
+     */
+    private static boolean canCoalesceWrite(PSocket pSocket, SSLOperation op, boolean currentlyWrapping, SSLEngineResult result, ByteBuffer appInput, PMemoryBIO networkOutboundBIO) {
+        return op == SSLOperation.WRITE && currentlyWrapping && result.getStatus() == SSLEngineResult.Status.OK &&
+                        result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING && appInput.hasRemaining() &&
+                        pSocket.getTimeoutNs() != 0 && networkOutboundBIO.getPending() < MAX_COALESCED_WRITE_SIZE;
+    }
+
+    /**
+     * Maximum number of bytes a single {@link #read} can produce. Reading stops after one TLS
+     * record, so the callers don't need to allocate more than this.
+     */
+    @TruffleBoundary
+    static int getMaxReadLength(PSSLSocket socket) {
+        return Math.max(socket.getEngine().getSession().getApplicationBufferSize(), socket.getApplicationInboundBIO().getPending());
+    }
+
     private static SSLEngineResult doUnwrap(SSLEngine engine, PMemoryBIO networkInboundBIO, ByteBuffer targetBuffer, PMemoryBIO applicationInboundBIO, boolean writeDirectlyToTarget)
                     throws SSLException, OverflowException {
         ByteBuffer readBuffer = networkInboundBIO.getBufferForReading();
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.ssl;
+
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___EQ__;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNotImplemented;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PSSLSession)
+public class SSLSessionBuiltins extends PythonBuiltins {
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SSLSessionBuiltinsFactory.getFactories();
+    }
+
+    @Builtin(name = "id", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class IdNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        Object get(PSSLSession self) {
+            return factory().createBytes(getId(self.getSession()));
+        }
+
+        @TruffleBoundary
+        private static byte[] getId(SSLSession session) {
+            return session.getId();
+        }
+    }
+
+    @Builtin(name = "time", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class TimeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static long get(PSSLSession self) {
+            return self.getSession().getCreationTime() / 1000;
+        }
+    }
+
+    @Builtin(name = "timeout", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class TimeoutNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static long get(PSSLSession self) {
+            return getTimeout(self.getSession());
+        }
+    }
+
+    @Builtin(name = "ticket_lifetime_hint", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class TicketLifetimeHintNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static long get(PSSLSession self) {
+            // JDK API doesn't expose the hint sent by the server, the session timeout is the
+            // closest approximation
+            return getTimeout(self.getSession());
+        }
+    }
+
+    @Builtin(name = "has_ticket", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class HasTicketNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static boolean get(PSSLSession self) {
+            // The JDK resumes TLSv1.3 sessions only using session tickets
+            return SSLProtocol.TLSv1_3.getName().equals(self.getSession().getProtocol());
+        }
+    }
+
+    @Builtin(name = J___EQ__, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class EqNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static boolean eq(PSSLSession self, PSSLSession other) {
+            return Arrays.equals(self.getSession().getId(), other.getSession().getId());
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static Object eq(Object self, Object other) {
+            return PNotImplemented.NOT_IMPLEMENTED;
+        }
+    }
+
+    @TruffleBoundary
+    private static long getTimeout(SSLSession session) {
+        SSLSessionContext sessionContext = session.getSessionContext();
+        return sessionContext != null ? sessionContext.getSessionTimeout() : 0;
+    }
+}
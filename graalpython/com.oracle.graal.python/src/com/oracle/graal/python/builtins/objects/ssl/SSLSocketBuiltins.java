@@ -40,7 +40,7 @@
  */
 package com.oracle.graal.python.builtins.objects.ssl;
 
-import static com.oracle.graal.python.builtins.PythonBuiltinClassType.NotImplementedError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
@@ -102,7 +102,8 @@ public class SSLSocketBuiltins extends PythonBuiltins {
             } else if (len < 0) {
                 throw raise(ValueError, ErrorMessages.SIZE_SHOULD_NOT_BE_NEGATIVE);
             }
-            ByteBuffer output = PythonUtils.allocateByteBuffer(len);
+            // A read never returns more than one record, don't allocate more than that
+            ByteBuffer output = PythonUtils.allocateByteBuffer(Math.min(len, SSLOperationNode.getMaxReadLength(self)));
             sslOperationNode.read(frame, self, output);
             PythonUtils.flipBuffer(output);
             return factory().createBytes(PythonUtils.getBufferArray(output), PythonUtils.getBufferLimit(output));
@@ -126,16 +127,18 @@ public class SSLSocketBuiltins extends PythonBuiltins {
                 byte[] bytes;
                 boolean directWrite = bufferLib.hasInternalByteArray(buffer);
                 if (directWrite) {
+                    // Decrypt straight into the caller's buffer
                     bytes = bufferLib.getInternalByteArray(buffer);
                 } else {
-                    bytes = new byte[toReadLen];
+                    toReadLen = Math.min(toReadLen, SSLOperationNode.getMaxReadLength(self));
+                    bytes = self.getReadScratch(toReadLen);
                 }
                 ByteBuffer output = PythonUtils.wrapByteBuffer(bytes, 0, toReadLen);
                 sslOperationNode.read(frame, self, output);
                 PythonUtils.flipBuffer(output);
                 int readBytes = PythonUtils.getBufferRemaining(output);
                 if (!directWrite) {
-                    bufferLib.readIntoByteArray(buffer, 0, bytes, 0, readBytes);
+                    bufferLib.writeFromByteArray(buffer, 0, bytes, 0, readBytes);
                 }
                 return readBytes;
             } finally {
@@ -270,14 +273,36 @@ public class SSLSocketBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class SessionNode extends PythonBinaryBuiltinNode {
         @Specialization(guards = "isNoValue(none)")
-        static Object get(@SuppressWarnings("unused") PSSLSocket self, @SuppressWarnings("unused") Object none) {
-            return PNone.NONE;
+        Object get(PSSLSocket self, @SuppressWarnings("unused") Object none) {
+            if (!self.isFirstHandshakeFinished()) {
+                return PNone.NONE;
+            }
+            return factory().createSSLSession(self.getContext(), getSession(self.getEngine()));
         }
 
         @Specialization(guards = "!isNoValue(obj)")
-        Object set(@SuppressWarnings("unused") PSSLSocket self, @SuppressWarnings("unused") Object obj) {
-            // JDK API doesn't support setting session ID
-            throw raise(NotImplementedError);
+        Object set(PSSLSocket self, Object obj) {
+            if (!(obj instanceof PSSLSession)) {
+                throw raise(TypeError, ErrorMessages.VALUE_IS_NOT_A_SSLSESSION);
+            }
+            PSSLSession session = SSLContextBuiltins.checkSession(this, self.getContext(), !getUseClientMode(self.getEngine()), obj);
+            if (self.getHandshakeStartTime() != 0) {
+                throw raise(ValueError, ErrorMessages.CANNOT_SET_SESSION_AFTER_HANDSHAKE);
+            }
+            // The JDK picks the session to resume when the engine is created
+            TruffleString serverHostname = self.getServerHostname();
+            self.setEngine(SSLContextBuiltins.createSSLEngine(this, self.getContext(), false, serverHostname == null ? null : serverHostname.toJavaStringUncached(), session));
+            return PNone.NONE;
+        }
+
+        @TruffleBoundary
+        private static SSLSession getSession(SSLEngine engine) {
+            return engine.getSession();
+        }
+
+        @TruffleBoundary
+        private static boolean getUseClientMode(SSLEngine engine) {
+            return engine.getUseClientMode();
         }
     }
 
@@ -285,8 +310,8 @@ public class SSLSocketBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class SessionReusedNode extends PythonUnaryBuiltinNode {
         @Specialization
-        static Object get(@SuppressWarnings("unused") PSSLSocket self) {
-            return false;
+        static Object get(PSSLSocket self) {
+            return self.isSessionReused();
         }
     }
 
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.str;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.util.ArrayList;
+
+import com.oracle.graal.python.builtins.modules.BuiltinFunctions.FormatNode;
+import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
+import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetItemScalarNode;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.lib.PyObjectAsciiNode;
+import com.oracle.graal.python.lib.PyObjectReprAsObjectNode;
+import com.oracle.graal.python.lib.PyObjectStrAsTruffleStringNode;
+import com.oracle.graal.python.lib.PyObjectStrAsTruffleStringNodeGen;
+import com.oracle.graal.python.nodes.PNodeWithContext;
+import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleStringBuilder;
+
+/**
+ * Nodes for formatting with a template that is constant at the call site. The template is parsed
+ * once when the node is created, so that each call only has to fetch the arguments, format them
+ * and concatenate the results.
+ * <p>
+ * Only the common subset of the template syntax is supported: {@code str.format} templates without
+ * nested replacement fields or attribute and item lookups, and {@code %} templates with only
+ * {@code %s}, {@code %r}, {@code %a} and {@code %%}. For other templates, the factory methods
+ * return {@code null}. If the arguments do not fit the template, {@code execute} returns
+ * {@code null} before any of them is converted, and the caller is expected to use the generic
+ * {@link TemplateFormatter} or {@code StringFormatProcessor}, which also produce the errors.
+ */
+public abstract class CompiledFormatNodes {
+
+    /**
+     * Upper bound on the number of fields, since the formatting loops are exploded.
+     */
+    private static final int MAX_FIELDS = 16;
+
+    /**
+     * Applies the {@code !s}, {@code !r} or {@code !a} conversion. A conversion of {@code 0}
+     * returns the value unchanged.
+     */
+    static final class ConversionNode extends PNodeWithContext {
+        private final char conversion;
+        @Child private PyObjectStrAsTruffleStringNode strNode;
+        @Child private PyObjectReprAsObjectNode reprNode;
+        @Child private PyObjectAsciiNode asciiNode;
+
+        ConversionNode(char conversion) {
+            this.conversion = conversion;
+            switch (conversion) {
+                case 's':
+                    strNode = PyObjectStrAsTruffleStringNodeGen.create();
+                    break;
+                case 'r':
+                    reprNode = PyObjectReprAsObjectNode.create();
+                    break;
+                case 'a':
+                    asciiNode = PyObjectAsciiNode.create();
+                    break;
+                default:
+                    assert conversion == 0;
+            }
+        }
+
+        Object execute(VirtualFrame frame, Object value) {
+            switch (conversion) {
+                case 's':
+                    return strNode.execute(frame, value);
+                case 'r':
+                    return reprNode.execute(frame, value);
+                case 'a':
+                    return asciiNode.execute(frame, value);
+                default:
+                    return value;
+            }
+        }
+    }
+
+    private static boolean isConversion(char c) {
+        return c == 's' || c == 'r' || c == 'a';
+    }
+
+    private static TruffleString[] toArray(ArrayList<TruffleString> list) {
+        return list.toArray(new TruffleString[list.size()]);
+    }
+
+    /**
+     * Formats a constant {@code str.format} template. Positional fields are either all numbered
+     * automatically or all numbered manually, and keyword fields are looked up in the
+     * {@link PKeyword} array by name.
+     */
+    public static final class CompiledStrFormatNode extends PNodeWithContext {
+        /* one more literal than fields, the literal at index i precedes field i */
+        @CompilationFinal(dimensions = 1) private final TruffleString[] literals;
+        /* positional index of each field or -1 for keyword fields */
+        @CompilationFinal(dimensions = 1) private final int[] argIndices;
+        @CompilationFinal(dimensions = 1) private final TruffleString[] keywords;
+        @CompilationFinal(dimensions = 1) private final TruffleString[] specs;
+        private final int minArgs;
+
+        @Children private final ConversionNode[] conversionNodes;
+        @Children private final FormatNode[] formatNodes;
+        @Child private CastToTruffleStringNode castToStringNode = CastToTruffleStringNode.create();
+        @Child private TruffleString.EqualNode equalNode = TruffleString.EqualNode.create();
+        @Child private TruffleStringBuilder.AppendStringNode appendNode = TruffleStringBuilder.AppendStringNode.create();
+        @Child private TruffleStringBuilder.ToStringNode toStringNode = TruffleStringBuilder.ToStringNode.create();
+
+        private CompiledStrFormatNode(TruffleString[] literals, int[] argIndices, TruffleString[] keywords, char[] conversions, TruffleString[] specs) {
+            this.literals = literals;
+            this.argIndices = argIndices;
+            this.keywords = keywords;
+            this.specs = specs;
+            int max = -1;
+            for (int index : argIndices) {
+                max = Math.max(max, index);
+            }
+            this.minArgs = max + 1;
+            this.conversionNodes = new ConversionNode[argIndices.length];
+            this.formatNodes = new FormatNode[argIndices.length];
+            for (int i = 0; i < argIndices.length; i++) {
+                conversionNodes[i] = new ConversionNode(conversions[i]);
+                formatNodes[i] = FormatNode.create();
+            }
+        }
+
+        /**
+         * Parses the template and returns {@code null} if it uses any feature that is not
+         * supported by this node or if it is invalid.
+         */
+        @TruffleBoundary
+        public static CompiledStrFormatNode create(TruffleString template) {
+            String s = template.toJavaStringUncached();
+            ArrayList<TruffleString> literals = new ArrayList<>();
+            ArrayList<TruffleString> keywords = new ArrayList<>();
+            ArrayList<TruffleString> specs = new ArrayList<>();
+            int[] argIndices = new int[MAX_FIELDS];
+            char[] conversions = new char[MAX_FIELDS];
+            StringBuilder literal = new StringBuilder();
+            boolean autoNumbering = false;
+            boolean manualNumbering = false;
+            int nextIndex = 0;
+            int i = 0;
+            int end = s.length();
+            while (i < end) {
+                char c = s.charAt(i++);
+                if (c == '}') {
+                    if (i < end && s.charAt(i) == '}') {
+                        literal.append('}');
+                        i++;
+                        continue;
+                    }
+                    return null;
+                } else if (c != '{') {
+                    literal.append(c);
+                    continue;
+                } else if (i < end && s.charAt(i) == '{') {
+                    literal.append('{');
+                    i++;
+                    continue;
+                }
+                int fieldEnd = s.indexOf('}', i);
+                int field = literals.size();
+                if (fieldEnd < 0 || field == MAX_FIELDS) {
+                    return null;
+                }
+                String fieldStr = s.substring(i, fieldEnd);
+                i = fieldEnd + 1;
+                if (fieldStr.indexOf('{') >= 0 || fieldStr.indexOf('[') >= 0) {
+                    return null;
+                }
+                int nameEnd = 0;
+                while (nameEnd < fieldStr.length() && fieldStr.charAt(nameEnd) != ':' && fieldStr.charAt(nameEnd) != '!') {
+                    nameEnd++;
+                }
+                int specStart = nameEnd;
+                if (nameEnd < fieldStr.length() && fieldStr.charAt(nameEnd) == '!') {
+                    if (nameEnd + 1 == fieldStr.length() || !isConversion(fieldStr.charAt(nameEnd + 1))) {
+                        return null;
+                    }
+                    conversions[field] = fieldStr.charAt(nameEnd + 1);
+                    specStart = nameEnd + 2;
+                    if (specStart < fieldStr.length() && fieldStr.charAt(specStart) != ':') {
+                        return null;
+                    }
+                }
+                String name = fieldStr.substring(0, nameEnd);
+                if (name.isEmpty()) {
+                    if (manualNumbering) {
+                        return null;
+                    }
+                    autoNumbering = true;
+                    argIndices[field] = nextIndex++;
+                    keywords.add(null);
+                } else if (isDecimal(name)) {
+                    if (autoNumbering || name.length() > 9) {
+                        return null;
+                    }
+                    manualNumbering = true;
+                    argIndices[field] = Integer.parseInt(name);
+                    keywords.add(null);
+                } else if (isKeyword(name)) {
+                    argIndices[field] = -1;
+                    keywords.add(toTruffleStringUncached(name));
+                } else {
+                    return null;
+                }
+                specs.add(toTruffleStringUncached(specStart < fieldStr.length() ? fieldStr.substring(specStart + 1) : ""));
+                literals.add(toTruffleStringUncached(literal.toString()));
+                literal.setLength(0);
+            }
+            int fields = literals.size();
+            if (fields == 0) {
+                return null;
+            }
+            literals.add(toTruffleStringUncached(literal.toString()));
+            int[] indices = new int[fields];
+            char[] convs = new char[fields];
+            System.arraycopy(argIndices, 0, indices, 0, fields);
+            System.arraycopy(conversions, 0, convs, 0, fields);
+            return new CompiledStrFormatNode(toArray(literals), indices, toArray(keywords), convs, toArray(specs));
+        }
+
+        private static boolean isDecimal(String name) {
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isKeyword(String name) {
+            char first = name.charAt(0);
+            if (first >= '0' && first <= '9') {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (!(c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the formatted string or {@code null} if some positional or keyword argument is
+         * missing.
+         */
+        @ExplodeLoop
+        public TruffleString execute(VirtualFrame frame, Object[] args, PKeyword[] kwargs) {
+            if (args.length < minArgs) {
+                return null;
+            }
+            Object[] values = new Object[argIndices.length];
+            for (int i = 0; i < argIndices.length; i++) {
+                if (argIndices[i] >= 0) {
+                    values[i] = args[argIndices[i]];
+                } else {
+                    values[i] = findKeyword(kwargs, keywords[i]);
+                    if (values[i] == null) {
+                        return null;
+                    }
+                }
+            }
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING);
+            for (int i = 0; i < argIndices.length; i++) {
+                appendNode.execute(sb, literals[i]);
+                Object value = conversionNodes[i].execute(frame, values[i]);
+                if (!(value instanceof TruffleString) || !specs[i].isEmpty()) {
+                    value = castToStringNode.execute(formatNodes[i].execute(frame, value, specs[i]));
+                }
+                appendNode.execute(sb, (TruffleString) value);
+            }
+            appendNode.execute(sb, literals[argIndices.length]);
+            return toStringNode.execute(sb);
+        }
+
+        private Object findKeyword(PKeyword[] kwargs, TruffleString name) {
+            for (PKeyword kwarg : kwargs) {
+                if (equalNode.execute(name, kwarg.getName(), TS_ENCODING)) {
+                    return kwarg.getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Formats a constant {@code %} template. The right operand must be a tuple with exactly one
+     * item per field or, for templates with a single field, any object that is not a tuple.
+     */
+    public static final class CompiledPercentFormatNode extends PNodeWithContext {
+        /* one more literal than fields, the literal at index i precedes field i */
+        @CompilationFinal(dimensions = 1) private final TruffleString[] literals;
+
+        @Children private final ConversionNode[] conversionNodes;
+        @Child private GetItemScalarNode getItemNode = GetItemScalarNode.create();
+        @Child private CastToTruffleStringNode castToStringNode = CastToTruffleStringNode.create();
+        @Child private TruffleStringBuilder.AppendStringNode appendNode = TruffleStringBuilder.AppendStringNode.create();
+        @Child private TruffleStringBuilder.ToStringNode toStringNode = TruffleStringBuilder.ToStringNode.create();
+
+        private CompiledPercentFormatNode(TruffleString[] literals, char[] conversions) {
+            this.literals = literals;
+            this.conversionNodes = new ConversionNode[conversions.length];
+            for (int i = 0; i < conversions.length; i++) {
+                conversionNodes[i] = new ConversionNode(conversions[i]);
+            }
+        }
+
+        /**
+         * Parses the template and returns {@code null} if it uses any conversion other than
+         * {@code %s}, {@code %r} and {@code %a} (with no flags, width or precision), or if it has
+         * no fields at all.
+         */
+        @TruffleBoundary
+        public static CompiledPercentFormatNode create(TruffleString template) {
+            String s = template.toJavaStringUncached();
+            ArrayList<TruffleString> literals = new ArrayList<>();
+            char[] conversions = new char[MAX_FIELDS];
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            int end = s.length();
+            while (i < end) {
+                char c = s.charAt(i++);
+                if (c != '%') {
+                    literal.append(c);
+                    continue;
+                }
+                if (i == end) {
+                    return null;
+                }
+                c = s.charAt(i++);
+                if (c == '%') {
+                    literal.append('%');
+                } else if (isConversion(c) && literals.size() < MAX_FIELDS) {
+                    conversions[literals.size()] = c;
+                    literals.add(toTruffleStringUncached(literal.toString()));
+                    literal.setLength(0);
+                } else {
+                    return null;
+                }
+            }
+            int fields = literals.size();
+            if (fields == 0) {
+                return null;
+            }
+            literals.add(toTruffleStringUncached(literal.toString()));
+            char[] convs = new char[fields];
+            System.arraycopy(conversions, 0, convs, 0, fields);
+            return new CompiledPercentFormatNode(toArray(literals), convs);
+        }
+
+        /**
+         * Returns the formatted string or {@code null} if the right operand does not provide
+         * exactly one argument per field.
+         */
+        @ExplodeLoop
+        public TruffleString execute(VirtualFrame frame, Object right) {
+            int fields = conversionNodes.length;
+            SequenceStorage storage = null;
+            if (right instanceof PTuple) {
+                storage = ((PTuple) right).getSequenceStorage();
+                if (storage.length() != fields) {
+                    return null;
+                }
+            } else if (fields != 1 || right instanceof PythonAbstractNativeObject) {
+                // native objects may be tuple subclasses
+                return null;
+            }
+            TruffleStringBuilder sb = TruffleStringBuilder.create(TS_ENCODING);
+            for (int i = 0; i < fields; i++) {
+                appendNode.execute(sb, literals[i]);
+                Object value = storage != null ? getItemNode.execute(storage, i) : right;
+                appendNode.execute(sb, castToStringNode.execute(conversionNodes[i].execute(frame, value)));
+            }
+            appendNode.execute(sb, literals[fields]);
+            return toStringNode.execute(sb);
+        }
+    }
+}
@@ -117,6 +117,8 @@ import com.oracle.graal.python.builtins.objects.slice.PSlice;
 import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
 import com.oracle.graal.python.builtins.objects.slice.SliceNodes.CoerceToIntSlice;
 import com.oracle.graal.python.builtins.objects.slice.SliceNodes.ComputeIndices;
+import com.oracle.graal.python.builtins.objects.str.CompiledFormatNodes.CompiledPercentFormatNode;
+import com.oracle.graal.python.builtins.objects.str.CompiledFormatNodes.CompiledStrFormatNode;
 import com.oracle.graal.python.builtins.objects.str.StringBuiltinsClinicProviders.FormatNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.str.StringBuiltinsClinicProviders.SplitNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.str.StringBuiltinsFactory.EndsWithNodeFactory;
@@ -158,11 +160,13 @@ import com.oracle.graal.python.nodes.util.CastToJavaIntExactNode;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.formatting.InternalFormat;
 import com.oracle.graal.python.runtime.formatting.InternalFormat.Spec;
 import com.oracle.graal.python.runtime.formatting.StringFormatProcessor;
 import com.oracle.graal.python.runtime.formatting.TextFormatter;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
@@ -263,7 +267,22 @@ public final class StringBuiltins extends PythonBuiltins {
 
     @Builtin(name = J_FORMAT, minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true, declaresExplicitSelf = true)
     @GenerateNodeFactory
+    @ImportStatic({PythonUtils.class, CompiledStrFormatNode.class})
     abstract static class StrFormatNode extends PythonBuiltinNode {
+        @Specialization(guards = {"eqNode.execute(cachedSelf, self, TS_ENCODING)", "compiled != null"}, limit = "3")
+        TruffleString formatCompiled(VirtualFrame frame, TruffleString self, Object[] args, PKeyword[] kwargs,
+                        @SuppressWarnings("unused") @Cached("self") TruffleString cachedSelf,
+                        @SuppressWarnings("unused") @Cached TruffleString.EqualNode eqNode,
+                        @Cached(value = "create(cachedSelf)", neverDefault = false) CompiledStrFormatNode compiled,
+                        @Shared("format") @Cached BuiltinFunctions.FormatNode format,
+                        @Shared("getItem") @Cached PyObjectGetItem getItem) {
+            TruffleString result = compiled.execute(frame, args, kwargs);
+            if (result != null) {
+                return result;
+            }
+            return format(frame, self, args, kwargs, format, getItem);
+        }
+
         @Specialization
         TruffleString format(VirtualFrame frame, PString self, Object[] args, PKeyword[] kwargs,
                         @Shared("format") @Cached BuiltinFunctions.FormatNode format,
@@ -272,7 +291,7 @@ public final class StringBuiltins extends PythonBuiltins {
             return format(frame, castToStringNode.execute(self), args, kwargs, format, getItem);
         }
 
-        @Specialization
+        @Specialization(replaces = "formatCompiled")
         TruffleString format(VirtualFrame frame, TruffleString self, Object[] args, PKeyword[] kwargs,
                         @Shared("format") @Cached BuiltinFunctions.FormatNode format,
                         @Shared("getItem") @Cached PyObjectGetItem getItem) {
@@ -514,7 +533,16 @@ public final class StringBuiltins extends PythonBuiltins {
         @Specialization
         TruffleString doIt(TruffleString self, TruffleString other,
                         @Shared("concat") @Cached TruffleString.ConcatNode concatNode) {
-            return concatNode.execute(self, other, TS_ENCODING, false);
+            return concat(this, self, other, concatNode);
+        }
+
+        /**
+         * Concatenates lazily if {@link PythonOptions#LazyStrings} is enabled, i.e., the result is
+         * only flattened once its contents are needed (indexing, hashing, passing it to native
+         * code, ...). This keeps loops doing {@code s += piece} linear.
+         */
+        public static TruffleString concat(Node node, TruffleString self, TruffleString other, TruffleString.ConcatNode concatNode) {
+            return concatNode.execute(self, other, TS_ENCODING, PythonLanguage.get(node).getEngineOption(PythonOptions.LazyStrings));
         }
 
         @Specialization
@@ -1905,13 +1933,30 @@ public final class StringBuiltins extends PythonBuiltins {
 
     @Builtin(name = J___MOD__, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
+    @ImportStatic({PythonUtils.class, CompiledPercentFormatNode.class})
     public abstract static class ModNode extends PythonBinaryBuiltinNode {
 
-        @Specialization
+        @Specialization(guards = {"eqNode.execute(cachedSelf, self, TS_ENCODING)", "compiled != null"}, limit = "3")
+        TruffleString doCompiled(VirtualFrame frame, TruffleString self, Object right,
+                        @SuppressWarnings("unused") @Cached("self") TruffleString cachedSelf,
+                        @SuppressWarnings("unused") @Cached TruffleString.EqualNode eqNode,
+                        @Cached(value = "create(cachedSelf)", neverDefault = false) CompiledPercentFormatNode compiled,
+                        @Shared("getItemNode") @Cached PyObjectGetItem getItemNode,
+                        @Shared("getTupleItemNode") @Cached TupleBuiltins.GetItemNode getTupleItemNode,
+                        @Shared("ts2js") @Cached TruffleString.ToJavaStringNode toJavaStringNode,
+                        @Shared("js2ts") @Cached TruffleString.FromJavaStringNode fromJavaStringNode) {
+            TruffleString result = compiled.execute(frame, right);
+            if (result != null) {
+                return result;
+            }
+            return doStringObject(frame, self, right, getItemNode, getTupleItemNode, toJavaStringNode, fromJavaStringNode);
+        }
+
+        @Specialization(replaces = "doCompiled")
         TruffleString doStringObject(VirtualFrame frame, TruffleString self, Object right,
                         @Shared("getItemNode") @Cached PyObjectGetItem getItemNode,
                         @Shared("getTupleItemNode") @Cached TupleBuiltins.GetItemNode getTupleItemNode,
-                        @Cached TruffleString.ToJavaStringNode toJavaStringNode,
+                        @Shared("ts2js") @Cached TruffleString.ToJavaStringNode toJavaStringNode,
                         @Shared("js2ts") @Cached TruffleString.FromJavaStringNode fromJavaStringNode) {
             return doJavaString(frame, toJavaStringNode.execute(self), right, getItemNode, getTupleItemNode, fromJavaStringNode);
         }
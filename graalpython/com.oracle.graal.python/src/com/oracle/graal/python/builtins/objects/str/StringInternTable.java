@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.str;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Per-context table of canonical string instances. Strings passed to {@code sys.intern} (and
+ * strings marshal reads as interned) are always added. Short strings that are likely to be
+ * repeated many times, such as the dict keys produced by {@code _json} and {@code marshal} and the
+ * fields produced by {@code _csv}, are deduplicated through the same table, so that equal values
+ * read from many records share one {@link TruffleString}. Entries are only weakly held: a string
+ * disappears from the table once nothing else refers to it. Automatic deduplication stops once
+ * the table holds {@link #MAX_DEDUP_ENTRIES} strings, so that mostly unique data does not grow it
+ * without bound and does not contend on its lock; interning still finds and adds entries. The
+ * table size is checked again every {@link #DEDUP_RECHECK_INTERVAL} skipped strings, since entries
+ * disappear with their strings.
+ */
+public final class StringInternTable {
+    /** Strings longer than this many code points are never deduplicated automatically. */
+    public static final int MAX_DEDUP_LENGTH = 64;
+    private static final int MAX_DEDUP_ENTRIES = 1 << 16;
+    private static final int DEDUP_RECHECK_INTERVAL = 1 << 12;
+
+    private final WeakHashMap<TruffleString, WeakReference<TruffleString>> table = new WeakHashMap<>();
+    private long lookups;
+    private long hits;
+    private long savedBytes;
+    private volatile boolean dedupFull;
+    // racy on purpose, it only decides when to look at the table size again
+    private int skippedDedups;
+
+    /**
+     * Returns the canonical instance equal to {@code string}, making {@code string} the canonical
+     * instance if there is none yet.
+     */
+    @TruffleBoundary
+    public synchronized TruffleString intern(TruffleString string) {
+        return lookup(string, true);
+    }
+
+    /**
+     * Like {@link #intern}, but only for short strings and only as long as the table is not full.
+     * Other strings are returned unchanged.
+     */
+    public TruffleString dedup(TruffleString string) {
+        if (!isDedupCandidate(string) || dedupFull && ++skippedDedups % DEDUP_RECHECK_INTERVAL != 0) {
+            return string;
+        }
+        return dedupBoundary(string);
+    }
+
+    public static boolean isDedupCandidate(TruffleString string) {
+        assert TS_ENCODING == TruffleString.Encoding.UTF_32;
+        return !string.isEmpty() && string.byteLength(TS_ENCODING) <= MAX_DEDUP_LENGTH * 4;
+    }
+
+    @TruffleBoundary
+    private synchronized TruffleString dedupBoundary(TruffleString string) {
+        boolean full = table.size() >= MAX_DEDUP_ENTRIES;
+        dedupFull = full;
+        return full ? string : lookup(string, true);
+    }
+
+    private TruffleString lookup(TruffleString string, boolean add) {
+        lookups++;
+        WeakReference<TruffleString> ref = table.get(string);
+        TruffleString canonical = ref != null ? ref.get() : null;
+        if (canonical != null) {
+            if (canonical != string) {
+                hits++;
+                savedBytes += string.byteLength(TS_ENCODING);
+            }
+            return canonical;
+        }
+        if (add) {
+            table.put(string, new WeakReference<>(string));
+        }
+        return string;
+    }
+
+    /**
+     * Returns the number of live entries, the number of lookups, the number of lookups that
+     * replaced a string with an existing equal instance, and the bytes those strings occupy in the
+     * internal UTF-32 representation (an upper bound for compacted strings).
+     */
+    @TruffleBoundary
+    public synchronized long[] getStats() {
+        return new long[]{table.size(), lookups, hits, savedBytes};
+    }
+
+    public static String[] getStatNames() {
+        return new String[]{"entries", "lookups", "hits", "saved_bytes"};
+    }
+}
@@ -51,6 +51,7 @@ import com.oracle.graal.python.nodes.frame.ReadCallerFrameNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.runtime.exception.ExceptionStats;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -121,8 +122,9 @@ public final class TracebackBuiltins extends PythonBuiltins {
             // same
             PException pException = lazyTraceback.getException();
             List<TruffleStackTraceElement> stackTrace = TruffleStackTrace.getStackTrace(pException);
+            int pyIndex = 0;
             if (stackTrace != null) {
-                for (int truffleIndex = pException.getTracebackStartIndex(), pyIndex = 0; truffleIndex < stackTrace.size() && pyIndex < pException.getTracebackFrameCount(); truffleIndex++) {
+                for (int truffleIndex = pException.getTracebackStartIndex(); truffleIndex < stackTrace.size() && pyIndex < pException.getTracebackFrameCount(); truffleIndex++) {
                     TruffleStackTraceElement element = stackTrace.get(truffleIndex);
                     if (LazyTraceback.elementWantedForTraceback(element)) {
                         PFrame pFrame = materializeFrame(element, materializeFrameNode);
@@ -131,6 +133,7 @@ public final class TracebackBuiltins extends PythonBuiltins {
                     }
                 }
             }
+            ExceptionStats.materializedTraceback(materializeFrameNode, pyIndex);
             if (lazyTraceback.catchingFrameWantedForTraceback()) {
                 tb.setLineno(pException.getCatchRootNode().bciToLine(pException.getCatchBci()));
                 tb.setNext(next);
@@ -991,6 +991,10 @@ public abstract class ErrorMessages {
     public static final TruffleString X509_PEM_LIB = tsLiteral("[X509] PEM lib");
     public static final TruffleString NO_CIPHER_CAN_BE_SELECTED = tsLiteral("No cipher can be selected.");
     public static final TruffleString HANDSHAKE_NOT_DONE_YET = tsLiteral("handshake not done yet");
+    public static final TruffleString VALUE_IS_NOT_A_SSLSESSION = tsLiteral("Value is not a SSLSession.");
+    public static final TruffleString SESSION_REFERS_TO_DIFFERENT_SSLCONTEXT = tsLiteral("Session refers to a different SSLContext.");
+    public static final TruffleString CANNOT_SET_SESSION_FOR_SERVER_SIDE_SSLSOCKET = tsLiteral("Cannot set session for server-side SSLSocket.");
+    public static final TruffleString CANNOT_SET_SESSION_AFTER_HANDSHAKE = tsLiteral("Cannot set session after handshake.");
     public static final TruffleString S_CHANNEL_BINDING_NOT_IMPLEMENTED = tsLiteral("'%s' channel binding type not implemented");
     public static final TruffleString SSL_WANT_READ = tsLiteral("The operation did not complete (read)");
     public static final TruffleString SSL_WANT_WRITE = tsLiteral("The operation did not complete (write)");
@@ -44,6 +44,7 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.GetTypeMemberNode;
 import com.oracle.graal.python.builtins.objects.cext.capi.NativeMember;
+import com.oracle.graal.python.builtins.objects.common.DynamicObjectStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
 import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
@@ -145,6 +146,28 @@ public abstract class ReadAttributeFromObjectNode extends ObjectAttributeNode {
         }
     }
 
+    /**
+     * Multi-context variant of {@link #readFromBuiltinModuleDict}. As long as the module dict is
+     * backed by the module object itself, we read the attribute directly from the object. The
+     * shape-keyed inline cache used for that is, unlike the identity-based cache above, valid for
+     * the modules of all contexts sharing this AST.
+     */
+    @Specialization(guards = {"!isSingleContext()", "isStoredInObject(object, dict)"}, limit = "1")
+    protected static Object readFromModuleObject(PythonModule object, TruffleString key,
+                    @Shared("getDict") @SuppressWarnings("unused") @Cached GetDictIfExistsNode getDict,
+                    @SuppressWarnings("unused") @Bind("getDict.execute(object)") PDict dict,
+                    @Shared("readDynamic") @Cached ReadAttributeFromDynamicObjectNode readAttributeFromDynamicObjectNode) {
+        return readAttributeFromDynamicObjectNode.execute(object, key);
+    }
+
+    protected static boolean isStoredInObject(PythonObject object, PDict dict) {
+        if (dict != null) {
+            HashingStorage storage = dict.getDictStorage();
+            return storage instanceof DynamicObjectStorage && ((DynamicObjectStorage) storage).getStore() == object;
+        }
+        return false;
+    }
+
     // read from the Dict
     @Specialization(guards = {
                     "!isHiddenKey(key)",
@@ -48,6 +48,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeErro
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.MathGuards;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.ListGeneralizationNode;
@@ -69,12 +70,18 @@ import com.oracle.graal.python.nodes.call.special.LookupAndCallUnaryNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.truffle.PythonArithmeticTypes;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PythonObjectFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
 import com.oracle.graal.python.runtime.sequence.storage.BasicSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -87,6 +94,8 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.dsl.TypeSystemReference;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.BranchProfile;
 import com.oracle.truffle.api.strings.TruffleString;
@@ -142,6 +151,42 @@ public abstract class ListNodes {
             return factory.createList(cls, copyNode.execute(inliningTarget, getSequenceStorageNode.execute(list)));
         }
 
+        /*
+         * Host arrays of int, long, or double are copied into a matching typed storage at once,
+         * instead of iterating them element by element through interop.
+         */
+        @Specialization(guards = {"isPrimitiveHostArray(inliningTarget, iterable)", "lib.hasArrayElements(iterable)"}, limit = "1")
+        static PList listHostArray(Object cls, Object iterable,
+                        @Bind("this") Node inliningTarget,
+                        @SuppressWarnings("unused") @CachedLibrary("iterable") InteropLibrary lib,
+                        @Shared("factory") @Cached PythonObjectFactory factory) {
+            return factory.createList(cls, createStorageFromHostArray(PythonContext.get(inliningTarget).getEnv().asHostObject(iterable)));
+        }
+
+        static boolean isPrimitiveHostArray(Node inliningTarget, Object object) {
+            if (object instanceof PythonAbstractObject) {
+                return false;
+            }
+            Env env = PythonContext.get(inliningTarget).getEnv();
+            if (env.isHostObject(object)) {
+                Object hostObject = env.asHostObject(object);
+                return hostObject instanceof int[] || hostObject instanceof long[] || hostObject instanceof double[];
+            }
+            return false;
+        }
+
+        @TruffleBoundary
+        private static SequenceStorage createStorageFromHostArray(Object hostObject) {
+            if (hostObject instanceof int[]) {
+                return new IntSequenceStorage(((int[]) hostObject).clone());
+            } else if (hostObject instanceof long[]) {
+                return new LongSequenceStorage(((long[]) hostObject).clone());
+            } else if (hostObject instanceof double[]) {
+                return new DoubleSequenceStorage(((double[]) hostObject).clone());
+            }
+            throw CompilerDirectives.shouldNotReachHere();
+        }
+
         @Specialization(guards = {"!isNoValue(iterable)", "!isString(iterable)"})
         static PList listIterable(VirtualFrame frame, Object cls, Object iterable,
                         @Cached PyObjectGetIter getIter,
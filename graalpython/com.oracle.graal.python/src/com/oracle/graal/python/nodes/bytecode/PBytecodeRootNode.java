@@ -194,6 +194,7 @@ import com.oracle.graal.python.nodes.util.ExceptionStateNodes;
 import com.oracle.graal.python.runtime.ExecutionContext.CalleeContext;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.exception.ExceptionStats;
 import com.oracle.graal.python.runtime.exception.ExceptionUtils;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
@@ -2290,6 +2291,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         throw e;
                     }
                     if (pe != null) {
+                        ExceptionStats.caught(this);
                         pe.setCatchingFrameReference(virtualFrame, this, beginBci);
                     }
                     int stackSizeOnEntry = exceptionHandlerRanges[targetIndex + 1];
@@ -127,50 +127,58 @@ public class AsyncHandler {
 
         @Override
         public final void execute(PythonContext context) {
+            /*
+             * The debugger, tracing and profiling state is set up once for all callables run by
+             * this action, so that batches of many callables (e.g. weakref callbacks after a GC) do
+             * not pay for it on every call.
+             */
             Debugger debugger = null;
             PythonContext.PythonThreadState threadState = null;
-            PythonLanguage language = context.getLanguage();
-            do {
-                Object callable = callable();
-                if (callable != null) {
-                    Object[] arguments = arguments();
-                    Object[] args = PArguments.create(arguments.length + CallRootNode.ASYNC_ARG_COUNT);
-                    PythonUtils.arraycopy(arguments, 0, args, PArguments.USER_ARGUMENTS_OFFSET + CallRootNode.ASYNC_ARG_COUNT, arguments.length);
-                    PArguments.setArgument(args, CallRootNode.ASYNC_CALLABLE_INDEX, callable);
-                    PArguments.setArgument(args, CallRootNode.ASYNC_FRAME_INDEX_INDEX, frameIndex());
-                    // Avoid pointless stack walks in random places
-                    PArguments.setException(args, PException.NO_EXCEPTION);
-
-                    if (debugger == null) {
-                        debugger = Debugger.find(context.getEnv());
-                    }
-                    if (threadState == null) {
-                        threadState = context.getThreadState(language);
+            boolean alreadyTracing = true;
+            boolean alreadyProfiling = true;
+            try {
+                do {
+                    Object callable = callable();
+                    if (callable != null) {
+                        Object[] arguments = arguments();
+                        Object[] args = PArguments.create(arguments.length + CallRootNode.ASYNC_ARG_COUNT);
+                        PythonUtils.arraycopy(arguments, 0, args, PArguments.USER_ARGUMENTS_OFFSET + CallRootNode.ASYNC_ARG_COUNT, arguments.length);
+                        PArguments.setArgument(args, CallRootNode.ASYNC_CALLABLE_INDEX, callable);
+                        PArguments.setArgument(args, CallRootNode.ASYNC_FRAME_INDEX_INDEX, frameIndex());
+                        // Avoid pointless stack walks in random places
+                        PArguments.setException(args, PException.NO_EXCEPTION);
+
+                        if (debugger == null) {
+                            debugger = Debugger.find(context.getEnv());
+                            threadState = context.getThreadState(context.getLanguage());
+                            alreadyTracing = threadState.isTracing();
+                            if (!alreadyTracing) {
+                                threadState.tracingStart(PythonContext.TraceEvent.DISABLED);
+                            }
+                            alreadyProfiling = threadState.isProfiling();
+                            if (!alreadyProfiling) {
+                                threadState.profilingStart();
+                            }
+                            debugger.disableStepping();
+                        }
+                        try {
+                            GenericInvokeNode.getUncached().execute(context.getAsyncHandler().callTarget, args);
+                        } catch (PException e) {
+                            handleException(e);
+                        }
                     }
-                    boolean alreadyTracing = threadState.isTracing();
+                } while (proceed());
+            } finally {
+                if (debugger != null) {
+                    debugger.restoreStepping();
                     if (!alreadyTracing) {
-                        threadState.tracingStart(PythonContext.TraceEvent.DISABLED);
+                        threadState.tracingStop();
                     }
-                    boolean alreadyProfiling = threadState.isProfiling();
                     if (!alreadyProfiling) {
-                        threadState.profilingStart();
-                    }
-                    debugger.disableStepping();
-                    try {
-                        GenericInvokeNode.getUncached().execute(context.getAsyncHandler().callTarget, args);
-                    } catch (PException e) {
-                        handleException(e);
-                    } finally {
-                        debugger.restoreStepping();
-                        if (!alreadyTracing) {
-                            threadState.tracingStop();
-                        }
-                        if (!alreadyProfiling) {
-                            threadState.profilingStop();
-                        }
+                        threadState.profilingStop();
                     }
                 }
-            } while (proceed());
+            }
         }
     }
 
@@ -107,6 +107,7 @@ import com.oracle.graal.python.builtins.objects.cext.capi.PyTruffleObjectFree.Re
 import com.oracle.graal.python.builtins.objects.cext.capi.PyTruffleObjectFreeFactory.ReleaseHandleNodeGen;
 import com.oracle.graal.python.builtins.objects.cext.capi.PythonNativePointer;
 import com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWrapper;
+import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTiming;
 import com.oracle.graal.python.builtins.objects.cext.capi.transitions.CApiTransitions.HandleContext;
 import com.oracle.graal.python.builtins.objects.cext.hpy.GraalHPyContext;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
@@ -125,6 +126,7 @@ import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.str.StringInternTable;
 import com.oracle.graal.python.builtins.objects.str.StringNodes.StringReplaceNode;
 import com.oracle.graal.python.builtins.objects.thread.PLock;
 import com.oracle.graal.python.builtins.objects.thread.PThread;
@@ -139,6 +141,7 @@ import com.oracle.graal.python.nodes.object.SetDictNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.util.CastToJavaIntLossyNode;
 import com.oracle.graal.python.runtime.AsyncHandler.AsyncAction;
+import com.oracle.graal.python.runtime.exception.ExceptionStats;
 import com.oracle.graal.python.runtime.exception.ExceptionUtils;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonThreadKillException;
@@ -703,6 +706,15 @@ public final class PythonContext extends Python3Core {
 
     private final ConcurrentHashMap<TruffleString, AtomicLong> deserializationId = new ConcurrentHashMap<>();
 
+    /* exception counters of this context, only updated with the ExceptionStats option */
+    private final ExceptionStats exceptionStats = new ExceptionStats();
+
+    /* C API call counts and latency samples of this context, created when first needed */
+    private volatile CApiTiming.Stats capiStats;
+
+    /* canonical instances for interned strings and automatically deduplicated short strings */
+    private final StringInternTable stringInternTable = new StringInternTable();
+
     private final long perfCounterStart = ImageInfo.inImageBuildtimeCode() ? 0 : System.nanoTime();
 
     public static final String CHILD_CONTEXT_DATA = "childContextData";
@@ -1400,6 +1412,7 @@ public final class PythonContext extends Python3Core {
     }
 
     public void initialize() {
+        long initializeStart = System.nanoTime();
         try {
             acquireGil();
         } catch (InterruptedException e) {
@@ -1407,12 +1420,19 @@ public final class PythonContext extends Python3Core {
         }
         try {
             mainThread = new WeakReference<>(Thread.currentThread());
+            long start = System.nanoTime();
             initializePosixSupport();
+            reportStartupPhase("posix support", start);
             initialize(this);
+            start = System.nanoTime();
             setupRuntimeInformation(false);
+            start = reportStartupPhase("runtime information", start);
             postInitialize();
+            start = reportStartupPhase("post-initialization", start);
             if (!ImageInfo.inImageBuildtimeCode()) {
                 importSiteIfForced();
+                reportStartupPhase("site", start);
+                reportStartupPhase("total", initializeStart);
             } else if (posixSupport instanceof ImageBuildtimePosixSupport) {
                 ((ImageBuildtimePosixSupport) posixSupport).checkLeakingResources();
             }
@@ -1433,9 +1453,14 @@ public final class PythonContext extends Python3Core {
         try {
             mainThread = new WeakReference<>(Thread.currentThread());
             setEnv(newEnv);
+            long patchStart = System.nanoTime();
             setupRuntimeInformation(true);
+            long start = reportStartupPhase("runtime information", patchStart);
             postInitialize();
+            start = reportStartupPhase("post-initialization", start);
             importSiteIfForced();
+            reportStartupPhase("site", start);
+            reportStartupPhase("total", patchStart);
         } finally {
             releaseGil();
         }
@@ -2454,6 +2479,30 @@ public final class PythonContext extends Python3Core {
         return deserializationId.computeIfAbsent(fileName, f -> new AtomicLong()).incrementAndGet();
     }
 
+    public StringInternTable getStringInternTable() {
+        return stringInternTable;
+    }
+
+    public CApiTiming.Stats getCApiStats() {
+        CApiTiming.Stats stats = capiStats;
+        if (stats == null) {
+            stats = createCApiStats();
+        }
+        return stats;
+    }
+
+    @TruffleBoundary
+    private synchronized CApiTiming.Stats createCApiStats() {
+        if (capiStats == null) {
+            capiStats = new CApiTiming.Stats();
+        }
+        return capiStats;
+    }
+
+    public ExceptionStats getExceptionStats() {
+        return exceptionStats;
+    }
+
     @TruffleBoundary
     public TruffleString getSoAbi() {
         if (soABI == null) {
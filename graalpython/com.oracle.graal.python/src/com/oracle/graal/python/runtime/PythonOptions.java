@@ -192,6 +192,9 @@ public final class PythonOptions {
     @Option(category = OptionCategory.USER, help = "Equivalent to the Python -X warn_default_encoding flag. Enable opt-in EncodingWarning for 'encoding=None'", usageSyntax = "true|false", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> WarnDefaultEncodingFlag = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.EXPERT, help = "Set by the -X startup_times launcher flag. Print the time spent in each phase of the context initialization to stderr.", usageSyntax = "true|false", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> StartupTimesFlag = new OptionKey<>(false);
+
     @Option(category = OptionCategory.USER, help = "Equivalent to the Python -X int_max_str_digits option.", stability = OptionStability.STABLE) //
     public static final OptionKey<Integer> IntMaxStrDigits = new OptionKey<>(SysModuleBuiltins.INT_DEFAULT_MAX_STR_DIGITS,
                     new OptionType<>("IntMaxStrDigits", (input) -> {
@@ -321,12 +324,21 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Use the CPython sre engine as a fallback to the TRegex engine.") //
     public static final OptionKey<Boolean> TRegexUsesSREFallback = new OptionKey<>(true);
 
-    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off using lazy strings for performance reasons. Default true.") //
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off using lazy strings for performance reasons. " +
+                    "Concatenated strings are then only flattened when their contents are needed. Default true.") //
     public static final OptionKey<Boolean> LazyStrings = new OptionKey<>(true);
 
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Enable forced splitting (of builtins). Default false.") //
     public static final OptionKey<Boolean> EnableForcedSplits = new OptionKey<>(false);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Count raised, re-raised and caught exceptions, escaped frames and materialized tracebacks " +
+                    "for __graalpython__.exception_stats(). Default false.", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> ExceptionStats = new OptionKey<>(false);
+
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Count C API calls and object transitions and sample their latencies " +
+                    "for __graalpython__.capi_stats(). Default false.", stability = OptionStability.EXPERIMENTAL) //
+    public static final OptionKey<Boolean> CApiStats = new OptionKey<>(false);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Set by the launcher if an interactive console is used to run Python.") //
     public static final OptionKey<Boolean> TerminalIsInteractive = new OptionKey<>(false);
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime.exception;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * Counters that show how much exceptions cost beyond their allocation. Raising and catching an
+ * exception only records the frames the exception unwinds through, Python traceback objects are
+ * built from them only when the traceback is observed. A frame whose exception object was exposed
+ * to the program (bound with {@code except ... as}, chained as a context, re-raised) has to escape,
+ * which materializes a {@code PFrame} when the frame exits. Comparing the counters tells whether
+ * exceptions used for control flow stay on the cheap path.
+ * <p>
+ * The counters are only updated with {@link PythonOptions#ExceptionStats} enabled, which is an
+ * engine option so that the checks fold away in compiled code when it is off. Each context has its
+ * own counters, they can be queried from Python with {@code __graalpython__.exception_stats()}.
+ * </p>
+ */
+public final class ExceptionStats {
+    private long raised;
+    private long reraised;
+    private long caught;
+    private long escapedFrames;
+    private long materializedTracebacks;
+    private long materializedTracebackFrames;
+
+    /**
+     * Returns the counters of the current context, or {@code null} if exception statistics are
+     * disabled. The node is only used to look up the language and context and may be {@code null}.
+     */
+    private static ExceptionStats get(Node node) {
+        if (!PythonLanguage.get(node).getEngineOption(PythonOptions.ExceptionStats)) {
+            return null;
+        }
+        return PythonContext.get(node).getExceptionStats();
+    }
+
+    /** An exception was thrown by a raise statement or a builtin, including re-raises. */
+    public static void raised(Node node) {
+        ExceptionStats stats = get(node);
+        if (stats != null) {
+            stats.raised++;
+        }
+    }
+
+    /** An exception was thrown again with its existing traceback. */
+    public static void reraised(Node node) {
+        ExceptionStats stats = get(node);
+        if (stats != null) {
+            stats.reraised++;
+        }
+    }
+
+    /** A Python exception handler received an exception. */
+    public static void caught(Node node) {
+        ExceptionStats stats = get(node);
+        if (stats != null) {
+            stats.caught++;
+        }
+    }
+
+    /** The frame that caught an exception escaped because the exception was exposed. */
+    public static void escapedFrame(Node node) {
+        ExceptionStats stats = get(node);
+        if (stats != null) {
+            stats.escapedFrames++;
+        }
+    }
+
+    /**
+     * The Truffle stack trace of an exception was turned into Python traceback objects with the
+     * given number of frames.
+     */
+    public static void materializedTraceback(Node node, int frames) {
+        ExceptionStats stats = get(node);
+        if (stats != null) {
+            stats.materializedTracebacks++;
+            stats.materializedTracebackFrames += frames;
+        }
+    }
+
+    public long[] getCounters() {
+        return new long[]{raised, reraised, caught, escapedFrames, materializedTracebacks, materializedTracebackFrames};
+    }
+
+    public static String[] getCounterNames() {
+        return new String[]{"raised", "reraised", "caught", "escaped_frames", "materialized_tracebacks", "materialized_traceback_frames"};
+    }
+
+    public void reset() {
+        raised = 0;
+        reraised = 0;
+        caught = 0;
+        escapedFrames = 0;
+        materializedTracebacks = 0;
+        materializedTracebackFrames = 0;
+    }
+}
@@ -121,6 +121,7 @@ public final class PException extends AbstractTruffleException {
     }
 
     public static PException fromObject(PBaseException actual, Node node, Throwable wrapped) {
+        ExceptionStats.raised(node);
         PException pException = new PException(actual, node, wrapped);
         actual.setException(pException);
         return pException;
@@ -279,7 +280,14 @@ public final class PException extends AbstractTruffleException {
 
     public void markFrameEscaped() {
         if (this.frameInfo != null) {
-            this.frameInfo.markAsEscaped();
+            markAsEscaped(frameInfo);
+        }
+    }
+
+    private void markAsEscaped(PFrame.Reference frameInfo) {
+        if (!frameInfo.isEscaped()) {
+            ExceptionStats.escapedFrame(getLocation());
+            frameInfo.markAsEscaped();
         }
     }
 
@@ -322,7 +330,7 @@ public final class PException extends AbstractTruffleException {
             // shouldn't leak to the traceback
             if (frameInfo != null) {
                 assert frameInfo != PFrame.Reference.EMPTY;
-                frameInfo.markAsEscaped();
+                markAsEscaped(frameInfo);
             }
             // Make a snapshot of the traceback at the point of the exception handler. This may be
             // called later than in the exception handler, but only in cases when the exception
@@ -350,6 +358,7 @@ public final class PException extends AbstractTruffleException {
      * arguments, at the end of `finally`, `__exit__`...
      */
     public PException getExceptionForReraise(boolean rootNodeVisible) {
+        ExceptionStats.reraised(getLocation());
         PException pe = pythonException.getExceptionForReraise(getTraceback());
         if (rootNodeVisible) {
             pe.skipFirstTracebackFrame();
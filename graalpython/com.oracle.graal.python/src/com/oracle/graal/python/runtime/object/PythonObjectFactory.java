@@ -32,6 +32,7 @@ import java.util.concurrent.Semaphore;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.Python3Core;
@@ -178,6 +179,7 @@ import com.oracle.graal.python.builtins.objects.slice.PObjectSlice;
 import com.oracle.graal.python.builtins.objects.socket.PSocket;
 import com.oracle.graal.python.builtins.objects.ssl.PMemoryBIO;
 import com.oracle.graal.python.builtins.objects.ssl.PSSLContext;
+import com.oracle.graal.python.builtins.objects.ssl.PSSLSession;
 import com.oracle.graal.python.builtins.objects.ssl.PSSLSocket;
 import com.oracle.graal.python.builtins.objects.ssl.SSLMethod;
 import com.oracle.graal.python.builtins.objects.str.NativeCharSequence;
@@ -1305,7 +1307,11 @@ public abstract class PythonObjectFactory extends Node {
     }
 
     public final PTeeDataObject createTeeDataObject(Object it) {
-        return trace(new PTeeDataObject(it, PythonBuiltinClassType.PTeeDataObject, PythonBuiltinClassType.PTeeDataObject.getInstanceShape(getLanguage())));
+        return trace(new PTeeDataObject(it, PTeeDataObject.INITIAL_CAPACITY, PythonBuiltinClassType.PTeeDataObject, PythonBuiltinClassType.PTeeDataObject.getInstanceShape(getLanguage())));
+    }
+
+    public final PTeeDataObject createTeeDataObject(Object it, int capacity) {
+        return trace(new PTeeDataObject(it, capacity, PythonBuiltinClassType.PTeeDataObject, PythonBuiltinClassType.PTeeDataObject.getInstanceShape(getLanguage())));
     }
 
     public final PZipLongest createZipLongest(Object cls) {
@@ -1388,6 +1394,10 @@ public abstract class PythonObjectFactory extends Node {
         return trace(new PSSLSocket(clazz, getShape(clazz), context, engine, null, inbound, outbound, createMemoryBIO()));
     }
 
+    public final PSSLSession createSSLSession(PSSLContext context, SSLSession session) {
+        return trace(new PSSLSession(PythonBuiltinClassType.PSSLSession, getShape(PythonBuiltinClassType.PSSLSession), context, session));
+    }
+
     public final PMemoryBIO createMemoryBIO(Object clazz) {
         return trace(new PMemoryBIO(clazz, getShape(clazz)));
     }
@@ -75,6 +75,8 @@ public class CharsetMapping {
     // Name maps are populated by static initializer and are immutable afterwards
     private static final Map<TruffleString, String> CHARSET_NAME_MAP = new HashMap<>();
     private static final Map<String, TruffleString> CHARSET_NAME_MAP_REVERSE = new HashMap<>();
+    // Encodings that TruffleString can transcode natively, keyed by normalized Python name
+    private static final Map<TruffleString, TruffleString.Encoding> TRUFFLESTRING_ENCODING_MAP = new HashMap<>();
     private static final TruffleString T_UTF_16_UNDERSCORE = tsLiteral("utf_16");
     private static final TruffleString T_UTF_32_UNDERSCORE = tsLiteral("utf_32");
 
@@ -126,6 +128,18 @@ public class CharsetMapping {
         return head == 0xFFFE0000 || head == 0x0000FEFF;
     }
 
+    /**
+     * Returns the TruffleString encoding that produces exactly the same bytes as the given
+     * (normalized) Python codec for all inputs that do not trigger an error handler, or
+     * {@code null} if there is no such encoding. BOM-handling codecs like {@code utf_16} are not
+     * covered, and neither are the non-native byte orders, which TruffleString does not support
+     * natively.
+     */
+    @TruffleBoundary
+    public static TruffleString.Encoding getTruffleStringEncodingNormalized(TruffleString normalizedEncoding) {
+        return TRUFFLESTRING_ENCODING_MAP.get(normalizedEncoding);
+    }
+
     @TruffleBoundary
     public static TruffleString getPythonEncodingNameFromJavaName(String javaEncodingName) {
         return CHARSET_NAME_MAP_REVERSE.get(javaEncodingName.toLowerCase());
@@ -638,5 +652,37 @@ public class CharsetMapping {
         addAlias("x_mac_korean", "euc_kr");
         addAlias("x_mac_simp_chinese", "gb2312");
         addAlias("x_mac_trad_chinese", "big5");
+
+        boolean littleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+        for (Map.Entry<TruffleString, String> entry : CHARSET_NAME_MAP.entrySet()) {
+            TruffleString.Encoding encoding = getTruffleStringEncodingForJavaName(entry.getValue(), littleEndian);
+            if (encoding != null) {
+                TRUFFLESTRING_ENCODING_MAP.put(entry.getKey(), encoding);
+            }
+        }
+    }
+
+    private static TruffleString.Encoding getTruffleStringEncodingForJavaName(String javaName, boolean littleEndian) {
+        if (javaName == null) {
+            return null;
+        }
+        switch (javaName) {
+            case "US-ASCII":
+                return TruffleString.Encoding.US_ASCII;
+            case "ISO-8859-1":
+                return TruffleString.Encoding.ISO_8859_1;
+            case "UTF-8":
+                return TruffleString.Encoding.UTF_8;
+            case "UTF-16LE":
+                return littleEndian ? TruffleString.Encoding.UTF_16 : null;
+            case "UTF-16BE":
+                return littleEndian ? null : TruffleString.Encoding.UTF_16;
+            case "UTF-32LE":
+                return littleEndian ? TruffleString.Encoding.UTF_32 : null;
+            case "UTF-32BE":
+                return littleEndian ? null : TruffleString.Encoding.UTF_32;
+            default:
+                return null;
+        }
     }
 }
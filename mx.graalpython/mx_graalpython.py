@@ -73,7 +73,7 @@ from mx_graalpython_benchmark import PythonBenchmarkSuite, python_vm_registry, C
     CONFIGURATION_NATIVE_INTERPRETER_MULTI, PythonJavaEmbeddingBenchmarkSuite, python_java_embedding_vm_registry, \
     GraalPythonJavaDriverVm, CONFIGURATION_JAVA_EMBEDDING_INTERPRETER_MULTI_SHARED, \
     CONFIGURATION_JAVA_EMBEDDING_INTERPRETER_MULTI, CONFIGURATION_JAVA_EMBEDDING_MULTI_SHARED, \
-    CONFIGURATION_JAVA_EMBEDDING_MULTI
+    CONFIGURATION_JAVA_EMBEDDING_MULTI, PythonJMHEmbeddingBenchmarkSuite
 
 if not sys.modules.get("__main__"):
     # workaround for pdb++
@@ -2036,6 +2036,7 @@ def _register_bench_suites(namespace):
         mx_benchmark.add_bm_suite(py_bench_suite)
     for java_bench_suite in PythonInteropBenchmarkSuite.get_benchmark_suites(JBENCHMARKS):
         mx_benchmark.add_bm_suite(java_bench_suite)
+    mx_benchmark.add_bm_suite(PythonJMHEmbeddingBenchmarkSuite())
 
 
 class CharsetFilteringPariticpant:
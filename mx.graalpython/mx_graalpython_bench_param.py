@@ -38,6 +38,7 @@ PATH_MESO = os.path.join(_BASE_PATH, 'meso')
 PATH_MACRO = os.path.join(_BASE_PATH, 'macro')
 PATH_WARMUP = os.path.join(_BASE_PATH, 'warmup')
 PATH_INTEROP = os.path.join(_BASE_PATH, 'host_interop')
+PATH_STARTUP = os.path.join(_BASE_PATH, 'startup')
 PATH_JAVA_EMBEDDING = os.path.join(_BASE_PATH, 'java-embedding')
 
 # ----------------------------------------------------------------------------------------------------------------------
@@ -257,6 +258,14 @@ WARMUP_BENCHMARKS = {
 }
 
 
+# each iteration starts a new interpreter process, benchmark arguments are passed to that interpreter
+STARTUP_BENCHMARKS = {
+    'startup-empty': ITER_10 + WARMUP_2,
+    'startup-import-stdlib': ITER_10 + WARMUP_2,
+    'startup-first-request': ITER_10 + WARMUP_2,
+}
+
+
 INTEROP_BENCHMARKS = {
     'euler_java': ITER_10 + ['200'],
     'image-magix': ITER_10 + ['10000'],
@@ -314,6 +323,7 @@ BENCHMARKS = {
     "meso": [PATH_MESO, MESO_BENCHMARKS],
     "macro": [PATH_MACRO, MACRO_BENCHMARKS],
     "interop": [PATH_INTEROP, INTEROP_BENCHMARKS],
+    "startup": [PATH_STARTUP, STARTUP_BENCHMARKS],
     "micro-small": [PATH_MICRO, MICRO_BENCHMARKS_SMALL],
     "meso-small": [PATH_MESO, MESO_BENCHMARKS_SMALL],
 }
@@ -467,12 +467,11 @@ class GraalPythonJavaDriverVm(GraalPythonVmBase):
         # we use run_java, we need to do some output postprocessing that normally run_launcher would do
         with environ(self._env or {}):
             cp = self.get_classpath()
-            jhm = mx.dependency("mx:JMH_1_21")
+            # GRAALPYTHON_BENCH bundles JMH, so it is self-contained apart from the launcher classes
             cp_deps = [
                 mx.distribution('GRAALPYTHON_BENCH', fatalIfMissing=True),
-                jhm,
                 mx.dependency("sdk:LAUNCHER_COMMON")
-            ] + jhm.deps
+            ]
             cp += [x.classpath_repr() for x in cp_deps]
             java_args = ['-cp', ':'.join(cp)] + [self.launcher_class()]
             out = mx.TeeOutputCapture(mx.OutputCapture())
@@ -1055,3 +1054,33 @@ class PythonParserBenchmarkSuite(PythonBaseBenchmarkSuite): # pylint: disable=to
     def get_benchmark_suites(cls, benchmarks):
         assert isinstance(benchmarks, dict), "benchmarks must be a dict: {suite: {bench: args, ... }, ...}"
         return [cls(suite_name, suite_info[0]) for suite_name, suite_info in benchmarks.items()]
+
+
+class PythonJMHEmbeddingBenchmarkSuite(mx_benchmark.JMHRunnerBenchmarkSuite): # pylint: disable=too-many-ancestors
+    """
+    Runs the JMH benchmarks of the com.oracle.graal.python.benchmarks.embedding package, which measure
+    the cost of the polyglot embedding API (calls, conversions, contexts, exceptions and threads).
+    Benchmarks are selected with the usual JMH include patterns, e.g.
+    mx benchmark python-embedding-jmh -- -- CallBenchmark
+    """
+
+    EMBEDDING_BENCHMARKS = r"com\.oracle\.graal\.python\.benchmarks\.embedding\..*"
+
+    def name(self):
+        return "python-embedding-jmh"
+
+    def group(self):
+        return GROUP_GRAAL
+
+    def subgroup(self):
+        return SUBGROUP_GRAAL_PYTHON
+
+    def extraVmArgs(self):
+        return [
+            "-Dorg.graalvm.language.python.home=%s" % join(SUITE.dir, "graalpython"),
+        ] + super(PythonJMHEmbeddingBenchmarkSuite, self).extraVmArgs()
+
+    def runArgs(self, bmSuiteArgs):
+        run_args = super(PythonJMHEmbeddingBenchmarkSuite, self).runArgs(bmSuiteArgs)
+        # the benchmarks project also contains the interop JMH benchmarks, which have their own suites
+        return run_args if run_args else [self.EMBEDDING_BENCHMARKS]
@@ -679,7 +679,6 @@ suite = {
         "GRAALPYTHON_BENCH" : {
             "description": "java python interop benchmarks",
             "dependencies" : ["com.oracle.graal.python.benchmarks"],
-            "exclude": ["mx:JMH_1_21"],
             "distDependencies": [
                 "GRAALPYTHON",
                 "GRAALPYTHON-LAUNCHER",